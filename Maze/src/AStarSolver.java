@@ -0,0 +1,13 @@
+// To represent an A* search of a maze, guided by the Manhattan distance to
+// the goal. It finds a shortest path while expanding fewer cells than a
+// breadth-first search
+class AStarSolver extends BestFirstSolver {
+  // Constructor
+  AStarSolver(MazeLayout maze, int start, int goal) {
+    super(maze, start, goal);
+  }
+
+  int priority(int cell, int distance) {
+    return distance + this.manhattan(cell);
+  }
+}
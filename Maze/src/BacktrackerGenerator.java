@@ -0,0 +1,51 @@
+import java.util.BitSet;
+import java.util.Random;
+
+// Generates mazes with the recursive backtracker, a randomized depth-first
+// search run on an explicit stack of cells
+class BacktrackerGenerator implements MazeGenerator {
+  public int id() {
+    return BACKTRACKER;
+  }
+
+  public GridMaze generate(int width, int height, Random rdm) {
+    GridMaze maze = new GridMaze(width, height);
+
+    BitSet visited = new BitSet(maze.cellCount());
+    int[] stack = new int[maze.cellCount()];
+    int size = 0;
+
+    // The unvisited neighbours of the cell on top of the stack
+    int[] choices = new int[4];
+
+    visited.set(0);
+    stack[size++] = 0;
+
+    while (size > 0) {
+      int cell = stack[size - 1];
+      int count = 0;
+
+      for (int direction : GridMaze.DIRECTIONS) {
+        int neighbour = maze.adjacent(cell, direction);
+
+        if (neighbour != -1 && !visited.get(neighbour)) {
+          choices[count++] = neighbour;
+        }
+      }
+
+      // Backtracking once every neighbour has been visited
+      if (count == 0) {
+        size--;
+      }
+      else {
+        int next = choices[rdm.nextInt(count)];
+
+        maze.carve(cell, next);
+        visited.set(next);
+        stack[size++] = next;
+      }
+    }
+
+    return maze;
+  }
+}
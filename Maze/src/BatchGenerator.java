@@ -0,0 +1,262 @@
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Generates a batch of mazes headlessly and writes each to its own maze file,
+// with an index.csv listing them. Mazes are generated, and optionally solved,
+// on a pool of threads and handed through a bounded queue to the calling
+// thread, which writes them out while the next ones are being made. The
+// queue holds a few mazes per thread, which bounds the memory used however
+// large the batch
+class BatchGenerator {
+  // How to make a batch from the command line
+  static final String USAGE = "Usage: Main --batch N [--size WxH] [--seed S] [--threads T]"
+          + " [--out dir] [--generator kruskal|backtracker|wilson|prim|binary-tree"
+          + "|sidewinder|eller] [--solve]";
+
+  // The number of mazes waiting to be written per generating thread
+  static final int QUEUED_PER_THREAD = 2;
+
+  // The number of mazes to make and their dimensions
+  int count;
+  int width;
+  int height;
+
+  // The seed each maze's own seed is derived from
+  long seed;
+
+  // The number of threads making mazes
+  int threads;
+
+  // The directory the mazes are written to
+  Path out;
+
+  // The algorithm the mazes are made with
+  MazeGenerator generator;
+
+  // Whether to solve each maze and record the length of its solution
+  boolean solve;
+
+  // Constructor
+  BatchGenerator(int count, int width, int height, long seed, int threads, Path out,
+                 MazeGenerator generator, boolean solve) {
+    // Throw an exception if the batch settings are invalid
+    if (count < 0) {
+      throw new IllegalArgumentException("Invalid batch size: " + count);
+    }
+
+    if (width <= 0 || height <= 0 || (long) width * height > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Invalid maze dimensions: " + width + "x" + height);
+    }
+
+    if (threads <= 0) {
+      throw new IllegalArgumentException("Invalid number of threads: " + threads);
+    }
+
+    this.count = count;
+    this.width = width;
+    this.height = height;
+    this.seed = seed;
+    this.threads = threads;
+    this.out = out;
+    this.generator = generator;
+    this.solve = solve;
+  }
+
+  // Makes a batch from command line arguments, as described by USAGE
+  static BatchGenerator parse(String[] args) {
+    int count = -1;
+    int width = 40;
+    int height = 20;
+    long seed = new Random().nextLong();
+    int threads = Runtime.getRuntime().availableProcessors();
+    Path out = Paths.get(".");
+    String algorithm = "kruskal";
+    boolean solve = false;
+
+    for (int i = 0; i < args.length; i++) {
+      String option = args[i];
+
+      if (option.equals("--solve")) {
+        solve = true;
+        continue;
+      }
+
+      // Every other option takes a value
+      if (i + 1 >= args.length) {
+        throw new IllegalArgumentException("Missing value for " + option);
+      }
+
+      String value = args[++i];
+
+      try {
+        switch (option) {
+          case "--batch":
+            count = Integer.parseInt(value);
+            break;
+          case "--size":
+            String[] size = value.split("x");
+
+            if (size.length != 2) {
+              throw new IllegalArgumentException("Invalid maze size: " + value);
+            }
+
+            width = Integer.parseInt(size[0]);
+            height = Integer.parseInt(size[1]);
+            break;
+          case "--seed":
+            seed = Long.parseLong(value);
+            break;
+          case "--threads":
+            threads = Integer.parseInt(value);
+            break;
+          case "--out":
+            out = Paths.get(value);
+            break;
+          case "--generator":
+            algorithm = value;
+            break;
+          default:
+            throw new IllegalArgumentException("Unknown option: " + option);
+        }
+      }
+      catch (NumberFormatException e) {
+        throw new IllegalArgumentException("Invalid value for " + option + ": " + value);
+      }
+    }
+
+    if (count == -1) {
+      throw new IllegalArgumentException("Missing --batch");
+    }
+
+    MazeGenerator generator;
+
+    switch (algorithm) {
+      case "kruskal":
+        generator = new KruskalGenerator(1);
+        break;
+      case "backtracker":
+        generator = new BacktrackerGenerator();
+        break;
+      case "wilson":
+        generator = new WilsonGenerator();
+        break;
+      case "prim":
+        generator = new PrimGenerator();
+        break;
+      case "binary-tree":
+        generator = new BinaryTreeGenerator();
+        break;
+      case "sidewinder":
+        generator = new SidewinderGenerator();
+        break;
+      case "eller":
+        generator = new EllerMazeGenerator();
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown generator: " + algorithm);
+    }
+
+    return new BatchGenerator(count, width, height, seed, threads, out, generator, solve);
+  }
+
+  // Returns the name of the file the maze with the given index is written to
+  static String fileName(int index) {
+    return String.format("maze-%06d.maze", index);
+  }
+
+  // Makes, and if asked solves, the maze with the given index
+  BatchMaze make(int index) {
+    // Mixing each maze's seed from the batch's, so that consecutive mazes
+    // are uncorrelated
+    long mazeSeed = EdgeWeights.split(this.seed, index);
+
+    try {
+      long start = System.nanoTime();
+      GridMaze maze = this.generator.generate(this.width, this.height, new Random(mazeSeed));
+      int solutionLength = -1;
+
+      MazeMetrics.GLOBAL.generation.recordSince(start);
+
+      if (this.solve) {
+        MazeSolver solver = MazeSolver.create(SearchStrategy.BREADTH_FIRST, maze,
+                0, maze.cellCount() - 1);
+        SolveResult result = solver.solve();
+
+        MazeMetrics.GLOBAL.recordSearch(solver);
+        solutionLength = result.path.length - 1;
+      }
+
+      return new BatchMaze(index, mazeSeed, maze, solutionLength);
+    }
+    catch (RuntimeException | Error e) {
+      return new BatchMaze(index, mazeSeed, e);
+    }
+  }
+
+  // Makes every maze of the batch and writes them out, returning once they
+  // have all been written
+  void run() throws IOException, InterruptedException {
+    Files.createDirectories(this.out);
+
+    final BlockingQueue<BatchMaze> queue =
+            new ArrayBlockingQueue<BatchMaze>(this.threads * QUEUED_PER_THREAD);
+    final AtomicInteger next = new AtomicInteger();
+    ExecutorService pool = Executors.newFixedThreadPool(this.threads);
+
+    // Each thread takes the next maze nobody has started until none are left
+    for (int t = 0; t < this.threads; t++) {
+      pool.execute(() -> {
+        try {
+          for (int i = next.getAndIncrement(); i < this.count; i = next.getAndIncrement()) {
+            queue.put(this.make(i));
+          }
+        }
+        catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+    }
+
+    // The line of the index for each maze, in batch order
+    String[] index = new String[this.count];
+
+    try {
+      for (int written = 0; written < this.count; written++) {
+        BatchMaze made = queue.take();
+
+        if (made.error != null) {
+          throw new IllegalStateException("Could not make maze " + made.index
+                  + " from seed " + made.seed, made.error);
+        }
+
+        String name = fileName(made.index);
+
+        MazeFile.save(made.maze, made.seed, this.generator.id(), this.out.resolve(name));
+
+        index[made.index] = name + "," + made.seed + "," + this.width + "," + this.height
+                + "," + this.generator.id() + ","
+                + (made.solutionLength == -1 ? "" : Integer.toString(made.solutionLength));
+      }
+    }
+    finally {
+      pool.shutdownNow();
+    }
+
+    try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(this.out.resolve("index.csv")))) {
+      writer.println("file,seed,width,height,generator,solution_length");
+
+      for (String line : index) {
+        writer.println(line);
+      }
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+// To represent one maze of a batch on its way from the threads that generate
+// it to the thread that writes it out
+class BatchMaze {
+  // The position of this maze in the batch
+  int index;
+
+  // The seed of the random number generator this maze was made from
+  long seed;
+
+  // The maze, or null if making it failed
+  GridMaze maze;
+
+  // The number of moves from the first cell to the last, or -1 if the maze
+  // was not solved
+  int solutionLength;
+
+  // What went wrong making this maze, or null if nothing did
+  Throwable error;
+
+  // Constructor for a maze that was made
+  BatchMaze(int index, long seed, GridMaze maze, int solutionLength) {
+    this.index = index;
+    this.seed = seed;
+    this.maze = maze;
+    this.solutionLength = solutionLength;
+  }
+
+  // Constructor for a maze that could not be made
+  BatchMaze(int index, long seed, Throwable error) {
+    this.index = index;
+    this.seed = seed;
+    this.error = error;
+    this.solutionLength = -1;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+// A piece of work timed by Benchmarks, with untimed preparation before each
+// run so that only the operation itself is measured
+abstract class BenchmarkTask implements Runnable {
+  // Prepares the state the next run works on. Not timed
+  void setUp() {
+  }
+}
\ No newline at end of file
@@ -0,0 +1,452 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+// Hand-timed microbenchmarks for the maze, run with
+// `java Benchmarks [--sizes 10x10,100x100,...] [suite...]` where each suite is
+// one of edges, generate, solve, render, scaling and generators. Every
+// measurement reports the mean time and the bytes allocated per operation
+class Benchmarks {
+  // The number of untimed runs used to warm up the JIT before measuring
+  static final int WARMUP_RUNS = 5;
+  // The number of timed runs averaged for each measurement
+  static final int TIMED_RUNS = 10;
+  // The number of cells worth of work each parameterised measurement aims
+  // for, so that small mazes get enough runs to time and large ones few
+  static final long CELLS_PER_MEASUREMENT = 4000000;
+
+  // The maze sizes the parameterised suites run over by default
+  static final String DEFAULT_SIZES = "10x10,100x100,500x500,1000x1000,2000x2000";
+  // The suites run when none are named
+  static final String[] ALL_SUITES =
+      {"edges", "generate", "solve", "render", "scaling", "generators"};
+
+  // The largest maze, in cells, solved through the animation. Every tick
+  // redraws the panel, so a solve costs far more per cell than the search
+  static final long MAX_ANIMATED_CELLS = 40000;
+  // Roughly how many times more an animated step costs than a searched cell,
+  // used to cut the runs of the animated measurements to match
+  static final long ANIMATION_COST = 1000;
+
+  // Somewhere for results to go, so the JIT cannot discard the work
+  static volatile long sink;
+
+  public static void main(String[] args) {
+    String sizeList = DEFAULT_SIZES;
+    List<String> suites = new ArrayList<String>();
+
+    for (int i = 0; i < args.length; i++) {
+      if (args[i].equals("--sizes") && i + 1 < args.length) {
+        sizeList = args[++i];
+      }
+      else {
+        suites.add(args[i]);
+      }
+    }
+
+    if (suites.isEmpty()) {
+      suites.addAll(Arrays.asList(ALL_SUITES));
+    }
+
+    String[] sizes = sizeList.split(",");
+    int[] widths = new int[sizes.length];
+    int[] heights = new int[sizes.length];
+
+    for (int i = 0; i < sizes.length; i++) {
+      String[] size = sizes[i].trim().split("x");
+
+      if (size.length != 2) {
+        throw new IllegalArgumentException("Invalid maze size: " + sizes[i]);
+      }
+
+      widths[i] = Integer.parseInt(size[0]);
+      heights[i] = Integer.parseInt(size[1]);
+    }
+
+    // The largest size stands in for the suites that are not parameterised
+    int largest = sizes.length - 1;
+
+    for (String suite : suites) {
+      System.out.println("# " + suite);
+
+      if (suite.equals("edges")) {
+        for (int i = 0; i < sizes.length; i++) {
+          edgeBetweenScans(widths[i], heights[i]);
+        }
+      }
+      else if (suite.equals("generate")) {
+        for (int i = 0; i < sizes.length; i++) {
+          graphGeneration(widths[i], heights[i]);
+        }
+      }
+      else if (suite.equals("solve")) {
+        for (int i = 0; i < sizes.length; i++) {
+          solving(widths[i], heights[i]);
+        }
+      }
+      else if (suite.equals("render")) {
+        for (int i = 0; i < sizes.length; i++) {
+          rendering(widths[i], heights[i]);
+        }
+      }
+      else if (suite.equals("scaling")) {
+        generationScaling(widths[largest], heights[largest]);
+        distanceScaling(widths[largest], heights[largest]);
+      }
+      else if (suite.equals("generators")) {
+        generatorThroughput(widths[largest], heights[largest]);
+      }
+      else {
+        throw new IllegalArgumentException("Unknown benchmark suite: " + suite);
+      }
+    }
+  }
+
+  // Returns how many timed runs to make of an operation over the given
+  // number of cells
+  static int runsFor(long cells) {
+    return (int) Math.max(3, Math.min(1000, CELLS_PER_MEASUREMENT / cells));
+  }
+
+  // Runs the given task repeatedly and prints the mean time of a timed run
+  static void measure(String name, Runnable task) {
+    measure(name, TIMED_RUNS, task);
+  }
+
+  // Runs the given task the given number of timed runs, after as many warmup
+  // runs but no more than WARMUP_RUNS, and prints the mean time and the mean
+  // bytes allocated by a timed run. A BenchmarkTask is set up before every
+  // run, outside the timing
+  static void measure(String name, int runs, Runnable task) {
+    BenchmarkTask prepared = task instanceof BenchmarkTask ? (BenchmarkTask) task : null;
+
+    for (int i = 0; i < Math.min(runs, WARMUP_RUNS); i++) {
+      if (prepared != null) {
+        prepared.setUp();
+      }
+
+      task.run();
+    }
+
+    long elapsed = 0;
+    long bytes = 0;
+
+    for (int i = 0; i < runs; i++) {
+      if (prepared != null) {
+        prepared.setUp();
+      }
+
+      long allocated = MazeMetrics.allocatedBytes();
+      long start = System.nanoTime();
+
+      task.run();
+
+      elapsed += System.nanoTime() - start;
+      bytes += MazeMetrics.allocatedBytes() - allocated;
+    }
+
+    System.out.printf("%-56s %12.3f ms/op %16.0f B/op%n",
+            name, elapsed / 1e6 / runs, (double) bytes / runs);
+  }
+
+  // Compares the ways of checking for a passage to each cell's west and
+  // north neighbours over a whole grid, as drawWalls does
+  static void edgeBetweenScans(int width, int height) {
+    final Graph graph = new Graph(width, height, new Random(0));
+    graph.kruskal();
+
+    final int cells = width * height;
+    final String size = " " + width + "x" + height;
+
+    final int runs = runsFor(cells);
+
+    measure("drawWalls scan via Node.edgeTo" + size, runs, new Runnable() {
+      public void run() {
+        long open = 0;
+
+        for (int i = 0; i < cells; i++) {
+          if (i % width != 0 && graph.getNode(i - 1).edgeTo(graph.getNode(i))) {
+            open++;
+          }
+          if (i / width != 0 && graph.getNode(i - width).edgeTo(graph.getNode(i))) {
+            open++;
+          }
+        }
+
+        sink = open;
+      }
+    });
+
+    measure("drawWalls scan via GridMaze wall bits" + size, runs, new Runnable() {
+      public void run() {
+        long open = 0;
+
+        for (int i = 0; i < cells; i++) {
+          if (i % width != 0 && graph.grid.edgeBetween(i - 1, i)) {
+            open++;
+          }
+          if (i / width != 0 && graph.grid.edgeBetween(i - width, i)) {
+            open++;
+          }
+        }
+
+        sink = open;
+      }
+    });
+
+    measure("drawWalls scan via passage masks" + size, runs, new Runnable() {
+      public void run() {
+        long open = 0;
+
+        for (int i = 0; i < cells; i++) {
+          int passages = graph.passages(i);
+
+          if ((passages & GridMaze.WEST) != 0) {
+            open++;
+          }
+          if ((passages & GridMaze.NORTH) != 0) {
+            open++;
+          }
+        }
+
+        sink = open;
+      }
+    });
+  }
+
+  // Measures building the graph of a maze and finding its spanning tree,
+  // with the graph built outside the timing when only the tree is measured
+  static void graphGeneration(final int width, final int height) {
+    final String size = " " + width + "x" + height;
+    final int runs = runsFor((long) width * height);
+
+    measure("new Graph" + size, runs, new Runnable() {
+      public void run() {
+        sink = new Graph(width, height, new Random(0)).getNode(0).hashCode();
+      }
+    });
+
+    measure("Graph.kruskal" + size, runs, new BenchmarkTask() {
+      Graph graph;
+
+      void setUp() {
+        this.graph = null;
+        this.graph = new Graph(width, height, new Random(0));
+      }
+
+      public void run() {
+        this.graph.kruskal();
+        sink = this.graph.passages(0);
+      }
+    });
+  }
+
+  // Measures solving a maze by breadth-first and depth-first search, both on
+  // their own and driven a step at a time through Maze as the animation is
+  static void solving(final int width, final int height) {
+    final String size = " " + width + "x" + height;
+    final int cells = width * height;
+    final int runs = runsFor(cells);
+    final Graph graph = new Graph(width, height, new Random(0));
+
+    graph.kruskal();
+
+    for (final SearchStrategy strategy : SearchStrategy.values()) {
+      measure("MazeSolver " + strategy + size, runs, new Runnable() {
+        public void run() {
+          sink = MazeSolver.create(strategy, graph, 0, cells - 1).solve().visitedCount;
+        }
+      });
+    }
+
+    measure("new MazeTree" + size, runs, new Runnable() {
+      public void run() {
+        sink = new MazeTree(graph).depth[cells - 1];
+      }
+    });
+
+    final MazeTree tree = graph.tree();
+
+    measure("MazeTree.path corner to corner" + size, runs, new Runnable() {
+      public void run() {
+        sink = tree.path(0, cells - 1).length;
+      }
+    });
+
+    measure("new MazeAnalysis" + size, runs, new Runnable() {
+      public void run() {
+        sink = new MazeAnalysis(graph).diameter;
+      }
+    });
+
+    if (cells > MAX_ANIMATED_CELLS) {
+      return;
+    }
+
+    final int animatedRuns = runsFor(cells * ANIMATION_COST);
+    final String[] keys = {"2", "3", "4", "5", "6"};
+
+    for (int i = 0; i < keys.length; i++) {
+      final String key = keys[i];
+
+      measure("Maze animated " + SearchStrategy.values()[i] + size, animatedRuns,
+              new BenchmarkTask() {
+        Maze maze;
+
+        void setUp() {
+          this.maze = null;
+          this.maze = new Maze(width, height, new Random(0));
+
+          // Letting the comparison of the search strategies finish, so that
+          // it does not run alongside the timed solve
+          if (this.maze.comparison != null) {
+            this.maze.comparison.await();
+          }
+        }
+
+        public void run() {
+          this.maze.onKeyEvent(key);
+
+          while (!this.maze.solved) {
+            this.maze.onTick();
+          }
+
+          sink = this.maze.score;
+        }
+      });
+    }
+  }
+
+  // Measures drawing the view of the maze, its squares and its walls, at the
+  // nearest and furthest zoom
+  static void rendering(final int width, final int height) {
+    final Maze maze = new Maze(width, height, new Random(0));
+
+    // Drawing the view nearest in, with walls, and furthest out, a pixel a cell
+    for (int level : new int[] {0, Maze.ZOOM_LEVELS.length - 1}) {
+      maze.zoomTo(level);
+
+      final String size = " " + width + "x" + height + " at " + maze.tileSize + " px/cell";
+      final int runs = runsFor((long) maze.viewColumns * maze.viewRows
+              * maze.tileSize * maze.tileSize);
+
+      measure("Maze.drawSquares" + size, runs, new Runnable() {
+        public void run() {
+          sink = maze.drawSquares().hashCode();
+        }
+      });
+
+      measure("Maze.drawWalls" + size, runs, new Runnable() {
+        public void run() {
+          sink = maze.drawWalls().hashCode();
+        }
+      });
+    }
+  }
+
+  // Compares generating a maze with Kruskal's algorithm against Boruvka's
+  // algorithm on 1, 2, 4... threads up to the number of processors
+  static void generationScaling(final int width, final int height) {
+    final String size = " " + width + "x" + height;
+
+    measure("GridMaze.kruskal" + size, runsFor((long) width * height), new Runnable() {
+      public void run() {
+        sink = GridMaze.kruskal(width, height, new Random(0)).eastWalls[0];
+      }
+    });
+
+    int processors = Runtime.getRuntime().availableProcessors();
+
+    // Doubling the threads each time, finishing on the processor count
+    int threads = 1;
+
+    while (true) {
+      final int parallelism = threads;
+
+      measure("GridMaze.boruvka" + size + " on " + threads + " threads", 3, new Runnable() {
+        public void run() {
+          sink = GridMaze.boruvka(width, height, new Random(0), parallelism).eastWalls[0];
+        }
+      });
+
+      if (threads == processors) {
+        break;
+      }
+
+      threads = Math.min(threads * 2, processors);
+    }
+  }
+
+  // Compares finding the distance to every cell from a corner with a
+  // parallel breadth-first search on 1, 2, 4... threads up to the number of
+  // processors
+  static void distanceScaling(final int width, final int height) {
+    final String size = " " + width + "x" + height;
+    final GridMaze maze = GridMaze.kruskal(width, height, 0L);
+    final int runs = runsFor((long) width * height);
+
+    int processors = Runtime.getRuntime().availableProcessors();
+
+    // Doubling the threads each time, finishing on the processor count
+    int threads = 1;
+
+    while (true) {
+      final ParallelBfs search = new ParallelBfs(threads);
+
+      measure("ParallelBfs.distances" + size + " on " + threads + " threads", runs, new Runnable() {
+        public void run() {
+          sink = search.distances(maze, 0)[width * height - 1];
+        }
+      });
+
+      if (threads == processors) {
+        break;
+      }
+
+      threads = Math.min(threads * 2, processors);
+    }
+  }
+
+  // Measures how many cells per second each maze generator makes, and how
+  // many bytes it allocates per cell
+  static void generatorThroughput(final int width, final int height) {
+    String[] names = {"Kruskal", "Boruvka", "Eller", "Recursive backtracker",
+                      "Wilson", "Prim", "Binary tree", "Sidewinder"};
+    MazeGenerator[] generators = {
+        new KruskalGenerator(1),
+        new KruskalGenerator(Runtime.getRuntime().availableProcessors()),
+        new EllerMazeGenerator(),
+        new BacktrackerGenerator(),
+        new WilsonGenerator(),
+        new PrimGenerator(),
+        new BinaryTreeGenerator(),
+        new SidewinderGenerator()};
+
+    long cells = (long) width * height;
+
+    for (int i = 0; i < generators.length; i++) {
+      final MazeGenerator generator = generators[i];
+      Runnable task = new Runnable() {
+        public void run() {
+          sink = generator.generate(width, height, new Random(0)).eastWalls[0];
+        }
+      };
+
+      // Warming up, then timing and weighing a single run
+      task.run();
+
+      long bytes = MazeMetrics.allocatedBytes();
+      long start = System.nanoTime();
+
+      task.run();
+
+      long elapsed = System.nanoTime() - start;
+
+      bytes = MazeMetrics.allocatedBytes() - bytes;
+
+      System.out.printf("%-24s %s %12.0f cells/s %8.1f bytes/cell%n",
+              names[i], width + "x" + height, cells / (elapsed / 1e9), (double) bytes / cells);
+    }
+  }
+}
\ No newline at end of file
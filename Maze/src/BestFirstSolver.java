@@ -0,0 +1,80 @@
+// To represent a search of a maze that always expands the queued cell with
+// the lowest priority, as given by the concrete search
+abstract class BestFirstSolver extends MazeSolver {
+  // The cells waiting to be expanded, by priority
+  CellHeap frontier;
+
+  // The number of moves along the best known path from the start to each
+  // seen cell
+  int[] distance;
+
+  // The column and row of the goal
+  int goalX;
+  int goalY;
+
+  // Constructor
+  BestFirstSolver(MazeLayout maze, int start, int goal) {
+    super(maze, start, goal);
+
+    this.frontier = new CellHeap(this.parent.length);
+    this.distance = new int[this.parent.length];
+
+    this.goalX = goal % maze.getWidth();
+    this.goalY = goal / maze.getWidth();
+
+    this.discover(start, -1);
+    this.frontier.push(start, this.priority(start, 0));
+  }
+
+  // Returns the priority of the given cell when it is the given number of
+  // moves from the start. Lower priorities are expanded first
+  abstract int priority(int cell, int distance);
+
+  // Returns the number of moves from the given cell to the goal if there
+  // were no walls in the way
+  int manhattan(int cell) {
+    int width = this.maze.getWidth();
+
+    return Math.abs(cell % width - this.goalX) + Math.abs(cell / width - this.goalY);
+  }
+
+  boolean frontierEmpty() {
+    return this.frontier.isEmpty();
+  }
+
+  int frontierSize() {
+    return this.frontier.size;
+  }
+
+  int nextCell() {
+    return this.frontier.pop();
+  }
+
+  // Queues the neighbours east, south, west and then north of the given cell
+  void expand(int cell) {
+    this.relax(this.neighbour(cell, GridMaze.EAST), cell);
+    this.relax(this.neighbour(cell, GridMaze.SOUTH), cell);
+    this.relax(this.neighbour(cell, GridMaze.WEST), cell);
+    this.relax(this.neighbour(cell, GridMaze.NORTH), cell);
+  }
+
+  // Queues the given cell if there is one and it has not been seen, or
+  // moves it up the queue if it has been reached by a shorter path
+  void relax(int cell, int from) {
+    if (cell == -1 || this.visited.get(cell)) {
+      return;
+    }
+
+    int moves = this.distance[from] + 1;
+
+    if (this.discover(cell, from)) {
+      this.distance[cell] = moves;
+      this.frontier.push(cell, this.priority(cell, moves));
+    }
+    else if (moves < this.distance[cell]) {
+      this.parent[cell] = from;
+      this.distance[cell] = moves;
+      this.frontier.push(cell, this.priority(cell, moves));
+    }
+  }
+}
@@ -0,0 +1,156 @@
+import java.util.Arrays;
+import java.util.BitSet;
+
+// To represent a breadth-first search of a maze run from the start and the
+// goal at once, taking turns, until the two frontiers meet. Both searches
+// share the parent links, each tree rooted at its own end
+class BidirectionalSolver extends MazeSolver {
+  // The cells waiting to be expanded from the start, held between head and tail
+  int[] forwardQueue;
+  int forwardHead;
+  int forwardTail;
+
+  // The cells waiting to be expanded from the goal, held between head and tail
+  int[] backwardQueue;
+  int backwardHead;
+  int backwardTail;
+
+  // The cells that have been reached by the search from the goal
+  BitSet fromGoal;
+
+  // Whether the next step expands a cell from the goal
+  boolean backwardTurn;
+
+  // The last cells expanded from the start and from the goal, or once the
+  // frontiers meet, the two neighbouring cells where they touch
+  int forward;
+  int backward;
+
+  // Constructor
+  BidirectionalSolver(MazeLayout maze, int start, int goal) {
+    super(maze, start, goal);
+
+    // Every cell is queued at most once, from one end or the other
+    this.forwardQueue = new int[this.parent.length];
+    this.backwardQueue = new int[this.parent.length];
+    this.fromGoal = new BitSet(this.parent.length);
+
+    this.discover(start, -1);
+    this.forwardQueue[this.forwardTail++] = start;
+    this.forward = start;
+
+    // When the start is the goal the search from the start finds it at once
+    if (goal != start) {
+      this.discover(goal, -1);
+      this.fromGoal.set(goal);
+      this.backwardQueue[this.backwardTail++] = goal;
+      this.backward = goal;
+    }
+    else {
+      this.backward = -1;
+    }
+  }
+
+  // Either search running out of cells before they meet means that there is
+  // no path, since it has been through everything its end can reach
+  boolean frontierEmpty() {
+    return this.forwardHead == this.forwardTail
+            || (this.backwardHead == this.backwardTail && this.goal != this.start);
+  }
+
+  int frontierSize() {
+    return this.forwardTail - this.forwardHead + this.backwardTail - this.backwardHead;
+  }
+
+  // Takes the next cell from each end in turn
+  int nextCell() {
+    boolean backward = this.backwardTurn && this.backwardHead != this.backwardTail;
+
+    this.backwardTurn = !this.backwardTurn;
+
+    if (backward) {
+      this.backward = this.backwardQueue[this.backwardHead++];
+      return this.backward;
+    }
+
+    this.forward = this.forwardQueue[this.forwardHead++];
+    return this.forward;
+  }
+
+  // Only the search from the start can finish by reaching the goal itself
+  boolean reachesGoal(int cell) {
+    return cell == this.goal && !this.fromGoal.get(cell);
+  }
+
+  // Queues the neighbours east, south, west and then north of the given
+  // cell on its own end, stopping if one of them was reached from the other
+  void expand(int cell) {
+    boolean backward = this.fromGoal.get(cell);
+
+    this.enqueue(this.neighbour(cell, GridMaze.EAST), cell, backward);
+    this.enqueue(this.neighbour(cell, GridMaze.SOUTH), cell, backward);
+    this.enqueue(this.neighbour(cell, GridMaze.WEST), cell, backward);
+    this.enqueue(this.neighbour(cell, GridMaze.NORTH), cell, backward);
+  }
+
+  // Queues the given cell on the given end if there is one and it has not
+  // been seen, or ends the search if it has been seen from the other end
+  void enqueue(int cell, int from, boolean backward) {
+    if (cell == -1 || this.solved) {
+      return;
+    }
+
+    if (this.seen.get(cell) && this.fromGoal.get(cell) != backward) {
+      this.forward = backward ? cell : from;
+      this.backward = backward ? from : cell;
+      this.solved = true;
+    }
+    else if (this.discover(cell, from)) {
+      if (backward) {
+        this.fromGoal.set(cell);
+        this.backwardQueue[this.backwardTail++] = cell;
+      }
+      else {
+        this.forwardQueue[this.forwardTail++] = cell;
+      }
+    }
+  }
+
+  int forwardEnd() {
+    return this.forward;
+  }
+
+  int backwardEnd() {
+    return this.backward;
+  }
+
+  boolean reachedFromGoal(int cell) {
+    return this.fromGoal.get(cell);
+  }
+
+  // Joins the path from the start to where the frontiers meet with the path
+  // back from there to the goal, or gives the path from the start to the
+  // last cell it expanded if they have not met
+  int[] path() {
+    int[] head = this.pathTo(this.forward);
+
+    if (!this.solved || this.backward == -1) {
+      return head;
+    }
+
+    int length = head.length;
+
+    for (int i = this.backward; i != -1; i = this.parent[i]) {
+      length++;
+    }
+
+    int[] path = Arrays.copyOf(head, length);
+    int index = head.length;
+
+    for (int i = this.backward; i != -1; i = this.parent[i]) {
+      path[index++] = i;
+    }
+
+    return path;
+  }
+}
\ No newline at end of file
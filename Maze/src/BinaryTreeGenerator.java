@@ -0,0 +1,28 @@
+import java.util.Random;
+
+// Generates mazes with the binary tree algorithm, which carves each cell's
+// passage either north or west at random. It needs no memory beyond the maze
+// itself, but every maze has unbroken corridors along its top and left edges
+class BinaryTreeGenerator implements MazeGenerator {
+  public int id() {
+    return BINARY_TREE;
+  }
+
+  public GridMaze generate(int width, int height, Random rdm) {
+    GridMaze maze = new GridMaze(width, height);
+
+    for (int cell = 1; cell < maze.cellCount(); cell++) {
+      int north = maze.adjacent(cell, GridMaze.NORTH);
+      int west = maze.adjacent(cell, GridMaze.WEST);
+
+      if (north == -1 || (west != -1 && rdm.nextBoolean())) {
+        maze.carve(cell, west);
+      }
+      else {
+        maze.carve(cell, north);
+      }
+    }
+
+    return maze;
+  }
+}
@@ -0,0 +1,45 @@
+// To represent a breadth-first search of a maze
+class BreadthFirstSolver extends MazeSolver {
+  // The cells waiting to be expanded, held between head and tail
+  int[] queue;
+  int head;
+  int tail;
+
+  // Constructor
+  BreadthFirstSolver(MazeLayout maze, int start, int goal) {
+    super(maze, start, goal);
+
+    // Every cell is queued at most once
+    this.queue = new int[this.parent.length];
+
+    this.discover(start, -1);
+    this.queue[this.tail++] = start;
+  }
+
+  boolean frontierEmpty() {
+    return this.head == this.tail;
+  }
+
+  int frontierSize() {
+    return this.tail - this.head;
+  }
+
+  int nextCell() {
+    return this.queue[this.head++];
+  }
+
+  // Queues the neighbours east, south, west and then north of the given cell
+  void expand(int cell) {
+    this.enqueue(this.neighbour(cell, GridMaze.EAST), cell);
+    this.enqueue(this.neighbour(cell, GridMaze.SOUTH), cell);
+    this.enqueue(this.neighbour(cell, GridMaze.WEST), cell);
+    this.enqueue(this.neighbour(cell, GridMaze.NORTH), cell);
+  }
+
+  // Queues the given cell if there is one and it has not been seen
+  void enqueue(int cell, int from) {
+    if (cell != -1 && this.discover(cell, from)) {
+      this.queue[this.tail++] = cell;
+    }
+  }
+}
@@ -0,0 +1,130 @@
+import java.util.Arrays;
+
+// To represent a binary min-heap of the cells of a maze keyed by int
+// priorities, indexed by cell so that a queued cell's priority can be lowered
+// in place. All of its storage is allocated up front, so queueing and
+// removing cells allocates nothing
+class CellHeap {
+  // The queued cells, in heap order from index 0 to size - 1
+  int[] heap;
+  int size;
+
+  // The priority of each queued cell
+  int[] priority;
+
+  // The index in heap of each queued cell, or -1 for a cell not queued
+  int[] position;
+
+  // Constructor that makes an empty heap for the given number of cells
+  CellHeap(int cells) {
+    this.heap = new int[cells];
+    this.priority = new int[cells];
+    this.position = new int[cells];
+
+    Arrays.fill(this.position, -1);
+  }
+
+  // Determines whether there are no cells queued
+  boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  // Determines whether the given cell is queued
+  boolean contains(int cell) {
+    return this.position[cell] != -1;
+  }
+
+  // Queues the given cell with the given priority, or lowers its priority to
+  // the given one if it is already queued with a higher one
+  void push(int cell, int priority) {
+    int index = this.position[cell];
+
+    if (index == -1) {
+      index = this.size++;
+      this.heap[index] = cell;
+      this.position[cell] = index;
+    }
+    else if (priority >= this.priority[cell]) {
+      return;
+    }
+
+    this.priority[cell] = priority;
+    this.siftUp(index);
+  }
+
+  // Removes and returns the queued cell with the lowest priority
+  int pop() {
+    if (this.size == 0) {
+      throw new IllegalStateException("The heap is empty");
+    }
+
+    int cell = this.heap[0];
+
+    this.size--;
+    this.position[cell] = -1;
+
+    if (this.size > 0) {
+      this.heap[0] = this.heap[this.size];
+      this.position[this.heap[0]] = 0;
+      this.siftDown(0);
+    }
+
+    return cell;
+  }
+
+  // Moves the cell at the given index up until its parent has no higher
+  // priority
+  void siftUp(int index) {
+    int cell = this.heap[index];
+    int key = this.priority[cell];
+
+    while (index > 0) {
+      int parent = (index - 1) >>> 1;
+      int above = this.heap[parent];
+
+      if (this.priority[above] <= key) {
+        break;
+      }
+
+      this.heap[index] = above;
+      this.position[above] = index;
+      index = parent;
+    }
+
+    this.heap[index] = cell;
+    this.position[cell] = index;
+  }
+
+  // Moves the cell at the given index down until neither child has a lower
+  // priority
+  void siftDown(int index) {
+    int cell = this.heap[index];
+    int key = this.priority[cell];
+
+    while (true) {
+      int child = 2 * index + 1;
+
+      if (child >= this.size) {
+        break;
+      }
+
+      if (child + 1 < this.size
+              && this.priority[this.heap[child + 1]] < this.priority[this.heap[child]]) {
+        child++;
+      }
+
+      int below = this.heap[child];
+
+      if (this.priority[below] >= key) {
+        break;
+      }
+
+      this.heap[index] = below;
+      this.position[below] = index;
+      index = child;
+    }
+
+    this.heap[index] = cell;
+    this.position[cell] = index;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+import javalib.worldimages.ComputedPixelImage;
+import java.awt.Color;
+
+// To represent a flat, mutable image of a grid of square tiles inside a
+// border, which can be repainted one tile at a time
+class CellRaster {
+  // The image being painted
+  ComputedPixelImage image;
+
+  // The size of each tile and of the border around the grid, in pixels
+  int tileSize;
+  int border;
+
+  // Constructor that makes a raster for a grid of the given number of
+  // tiles, filled with the given colour
+  CellRaster(int columns, int rows, int tileSize, int border, Color color) {
+    this.tileSize = tileSize;
+    this.border = border;
+    this.image = new ComputedPixelImage(
+            columns * tileSize + 2 * border,
+            rows * tileSize + 2 * border);
+
+    this.fill(color);
+  }
+
+  // Paints the whole image, border included, with the given colour
+  void fill(Color color) {
+    this.image.setPixels(0, 0, this.image.width, this.image.height, color);
+  }
+
+  // Paints the given rectangle of pixels, measured from the top left of the
+  // grid inside the border, with the given colour
+  void fillRect(int x, int y, int width, int height, Color color) {
+    this.image.setPixels(x + this.border, y + this.border, width, height, color);
+  }
+
+  // Paints the tile in the given column and row with the given colour
+  void fillTile(int column, int row, Color color) {
+    this.fillRect(column * this.tileSize, row * this.tileSize,
+            this.tileSize, this.tileSize, color);
+  }
+
+  // Returns the colour seen when the given colour is drawn over the given
+  // opaque colour
+  static Color over(Color top, Color bottom) {
+    int alpha = top.getAlpha();
+
+    if (alpha == 255) {
+      return top;
+    }
+
+    return new Color(
+            (top.getRed() * alpha + bottom.getRed() * (255 - alpha)) / 255,
+            (top.getGreen() * alpha + bottom.getGreen() * (255 - alpha)) / 255,
+            (top.getBlue() * alpha + bottom.getBlue() * (255 - alpha)) / 255);
+  }
+}
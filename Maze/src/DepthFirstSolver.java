@@ -0,0 +1,45 @@
+// To represent a depth-first search of a maze
+class DepthFirstSolver extends MazeSolver {
+  // The cells waiting to be expanded, with the next one on top
+  int[] stack;
+  int size;
+
+  // Constructor
+  DepthFirstSolver(MazeLayout maze, int start, int goal) {
+    super(maze, start, goal);
+
+    // Every cell is pushed at most once
+    this.stack = new int[this.parent.length];
+
+    this.discover(start, -1);
+    this.stack[this.size++] = start;
+  }
+
+  boolean frontierEmpty() {
+    return this.size == 0;
+  }
+
+  int frontierSize() {
+    return this.size;
+  }
+
+  int nextCell() {
+    return this.stack[--this.size];
+  }
+
+  // Pushes the neighbours north, west, south and then east of the given
+  // cell, so that east is explored first
+  void expand(int cell) {
+    this.push(this.neighbour(cell, GridMaze.NORTH), cell);
+    this.push(this.neighbour(cell, GridMaze.WEST), cell);
+    this.push(this.neighbour(cell, GridMaze.SOUTH), cell);
+    this.push(this.neighbour(cell, GridMaze.EAST), cell);
+  }
+
+  // Pushes the given cell if there is one and it has not been seen
+  void push(int cell, int from) {
+    if (cell != -1 && this.discover(cell, from)) {
+      this.stack[this.size++] = cell;
+    }
+  }
+}
@@ -4,13 +4,19 @@ class Edge {
   Node from;
   Node to;
 
+  // The indices of the nodes this edge connects in the graph's list of nodes
+  int fromIndex;
+  int toIndex;
+
   // The weight of this edge
   int weight;
 
   // Constructor
-  Edge(Node from, Node to, int weight) {
+  Edge(Node from, Node to, int fromIndex, int toIndex, int weight) {
     this.from = from;
     this.to = to;
+    this.fromIndex = fromIndex;
+    this.toIndex = toIndex;
     this.weight = weight;
   }
 }
\ No newline at end of file
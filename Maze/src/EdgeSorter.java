@@ -0,0 +1,55 @@
+import java.util.Arrays;
+
+// Orders the edges of a graph by weight for Kruskal's algorithm using an LSD
+// radix sort over their weights, rather than comparing Edge objects
+class EdgeSorter {
+  // The number of bits of the weight handled by each pass of the sort
+  static final int DIGIT_BITS = 16;
+  static final int DIGIT_MASK = (1 << DIGIT_BITS) - 1;
+
+  // Returns the indices of the given non-negative weights in ascending order
+  // of weight, with equal weights kept in ascending order of index
+  static int[] sortedOrder(int[] weights) {
+    int size = weights.length;
+
+    int[] order = new int[size];
+    int maxWeight = 0;
+
+    for (int i = 0; i < size; i++) {
+      if (weights[i] < 0) {
+        throw new IllegalArgumentException("Invalid edge weight: " + weights[i]);
+      }
+
+      order[i] = i;
+      maxWeight = Math.max(maxWeight, weights[i]);
+    }
+
+    int[] buffer = new int[size];
+    int[] counts = new int[DIGIT_MASK + 2];
+
+    // Stably distributing the indices by each digit of their weight in turn,
+    // skipping the digits that are zero for every weight
+    for (int shift = 0; shift < 32 && (maxWeight >>> shift) != 0; shift += DIGIT_BITS) {
+      Arrays.fill(counts, 0);
+
+      for (int i = 0; i < size; i++) {
+        counts[((weights[i] >>> shift) & DIGIT_MASK) + 1]++;
+      }
+
+      for (int d = 1; d < counts.length; d++) {
+        counts[d] += counts[d - 1];
+      }
+
+      for (int i = 0; i < size; i++) {
+        int index = order[i];
+        buffer[counts[(weights[index] >>> shift) & DIGIT_MASK]++] = index;
+      }
+
+      int[] sorted = buffer;
+      buffer = order;
+      order = sorted;
+    }
+
+    return order;
+  }
+}
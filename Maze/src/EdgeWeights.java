@@ -0,0 +1,33 @@
+// Derives the random weight of each edge of a maze as a pure function of the
+// maze's seed and the edge's number, so that edges can be weighed in any
+// order, on any number of threads, and always give the same maze
+class EdgeWeights {
+  // The odd constant added to the seed for each edge, from SplitMix64
+  static final long GAMMA = 0x9E3779B97F4A7C15L;
+
+  // Returns the weight, from 0 up to Graph.MAX_WEIGHT, of the edge with the
+  // given number in the maze made from the given seed
+  static int weight(long seed, long edge) {
+    long bits = split(seed, edge) >>> 32;
+
+    // Scaling the top 32 bits of the hash down to the range of weights
+    return (int) ((bits * Graph.MAX_WEIGHT) >>> 32);
+  }
+
+  // Returns the value numbered by the given index in the stream of values
+  // derived from the given seed. Neighbouring indices give unrelated values,
+  // so this also splits a seed into independent seeds for the parts of a
+  // larger job
+  static long split(long seed, long index) {
+    return mix(seed + (index + 1) * GAMMA);
+  }
+
+  // Scrambles the bits of the given value with the SplitMix64 finalizer, so
+  // that nearby values give unrelated results
+  static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+
+    return z ^ (z >>> 31);
+  }
+}
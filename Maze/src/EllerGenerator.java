@@ -0,0 +1,176 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Generates a perfect maze one row at a time with Eller's algorithm, keeping
+// only the sets the current row's cells belong to, so that the memory used
+// depends on the width of the maze and not on its height
+class EllerGenerator implements Iterator<MazeRow> {
+  // The dimensions of the maze in cells
+  int width;
+  long height;
+
+  // The random number generator the maze is made from
+  Random rdm;
+
+  // The index of the next row to generate
+  long y;
+
+  // The set each cell of the next row belongs to, named by a number below
+  // width, and the same for the row after it while it is being worked out
+  int[] sets;
+  int[] below;
+
+  // The sets of the current row joined so far, by their names
+  UnionFind joined;
+
+  // The number of cells of each set still to be considered for a passage
+  // south, and whether each set already has one
+  int[] remaining;
+  boolean[] descends;
+
+  // Whether each name is taken by a set reaching the row below
+  boolean[] used;
+
+  // Constructor that prepares a maze of the given dimensions made from the
+  // given random number generator. The height may be Long.MAX_VALUE for a
+  // maze that effectively never ends
+  EllerGenerator(int width, long height, Random rdm) {
+    if (width <= 0 || height <= 0) {
+      throw new IllegalArgumentException(
+              "Invalid maze dimensions: " + width + "x" + height);
+    }
+
+    this.width = width;
+    this.height = height;
+    this.rdm = rdm;
+
+    this.sets = new int[width];
+    this.below = new int[width];
+    this.joined = new UnionFind(width);
+    this.remaining = new int[width];
+    this.descends = new boolean[width];
+    this.used = new boolean[width];
+
+    // Every cell of the first row starts in its own set
+    for (int x = 0; x < width; x++) {
+      this.sets[x] = x;
+    }
+  }
+
+  // Makes a whole maze of the given dimensions from the given random number
+  // generator, for mazes small enough to hold whole
+  static GridMaze generate(int width, int height, Random rdm) {
+    GridMaze maze = new GridMaze(width, height);
+    EllerGenerator rows = new EllerGenerator(width, height, rdm);
+
+    while (rows.hasNext()) {
+      MazeRow row = rows.next();
+      int first = (int) row.y * width;
+
+      for (int x = 0; x < width; x++) {
+        maze.setEastWall(first + x, row.hasEastWall(x));
+        maze.setSouthWall(first + x, row.hasSouthWall(x));
+      }
+    }
+
+    return maze;
+  }
+
+  // Returns a stream of the rows still to be generated, made as they are consumed
+  Stream<MazeRow> rows() {
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this,
+            Spliterator.ORDERED | Spliterator.NONNULL), false);
+  }
+
+  // Determines whether there are rows left to generate
+  public boolean hasNext() {
+    return this.y < this.height;
+  }
+
+  // Generates the next row of the maze
+  public MazeRow next() {
+    if (!this.hasNext()) {
+      throw new NoSuchElementException("The maze has no rows left");
+    }
+
+    MazeRow row = new MazeRow(this.y, this.width);
+    boolean last = this.y == this.height - 1;
+
+    this.joined.reset();
+
+    // Randomly joining neighbouring cells in different sets, or joining all
+    // of them on the last row so that the maze ends up connected
+    for (int x = 0; x < this.width - 1; x++) {
+      int left = this.joined.find(this.sets[x]);
+      int right = this.joined.find(this.sets[x + 1]);
+
+      if (left != right && (last || this.rdm.nextBoolean())) {
+        this.joined.union(left, right);
+        row.openEast(x);
+      }
+    }
+
+    if (!last) {
+      this.descend(row);
+    }
+
+    this.y++;
+
+    return row;
+  }
+
+  // Opens at least one passage south from every set in the given row, and
+  // names the sets of the next row's cells
+  void descend(MazeRow row) {
+    Arrays.fill(this.remaining, 0);
+    Arrays.fill(this.descends, false);
+    Arrays.fill(this.used, false);
+
+    for (int x = 0; x < this.width; x++) {
+      this.sets[x] = this.joined.find(this.sets[x]);
+      this.remaining[this.sets[x]]++;
+    }
+
+    for (int x = 0; x < this.width; x++) {
+      int set = this.sets[x];
+
+      this.remaining[set]--;
+
+      // The last cell of a set that has no passage south yet must open one
+      if (this.rdm.nextBoolean() || (this.remaining[set] == 0 && !this.descends[set])) {
+        this.descends[set] = true;
+        this.used[set] = true;
+        row.openSouth(x);
+        this.below[x] = set;
+      }
+      else {
+        this.below[x] = -1;
+      }
+    }
+
+    // Cells that do not open south start new sets below, named with the
+    // names that no set reaching the next row is using
+    int fresh = 0;
+
+    for (int x = 0; x < this.width; x++) {
+      if (this.below[x] == -1) {
+        while (this.used[fresh]) {
+          fresh++;
+        }
+
+        this.used[fresh] = true;
+        this.below[x] = fresh;
+      }
+    }
+
+    int[] swap = this.sets;
+    this.sets = this.below;
+    this.below = swap;
+  }
+}
@@ -0,0 +1,13 @@
+import java.util.Random;
+
+// Generates whole mazes with Eller's algorithm, for mazes small enough to hold
+// in memory. EllerGenerator makes the same mazes a row at a time
+class EllerMazeGenerator implements MazeGenerator {
+  public int id() {
+    return ELLER;
+  }
+
+  public GridMaze generate(int width, int height, Random rdm) {
+    return EllerGenerator.generate(width, height, rdm);
+  }
+}
@@ -0,0 +1,162 @@
+import java.util.NoSuchElementException;
+import java.util.Random;
+import tester.Tester;
+
+// Examples and tests for the algorithms that generate mazes. Run with
+// tester.Main ExamplesGenerators, with the jars in EclipseJars on the classpath
+class ExamplesGenerators {
+  // The dimensions of the mazes generated by the tests, including mazes one
+  // cell wide or high
+  static final int[][] SIZES = {{1, 9}, {9, 1}, {7, 5}, {40, 30}};
+
+  // Determines whether every cell of the given maze can be reached from
+  // every other by exactly one path, that is, whether it is connected and
+  // has one passage fewer than it has cells
+  boolean isPerfect(GridMaze maze) {
+    int passages = 0;
+
+    for (int i = 0; i < maze.cellCount(); i++) {
+      passages += Integer.bitCount(maze.passages(i) & (GridMaze.EAST | GridMaze.SOUTH));
+    }
+
+    if (passages != maze.cellCount() - 1) {
+      return false;
+    }
+
+    for (int distance : new ParallelBfs(1).distances(maze, 0)) {
+      if (distance == -1) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  // Tests that every algorithm makes perfect mazes of the requested size,
+  // including mazes of a single cell, row or column, and reports its own id
+  void testEveryGenerator(Tester t) {
+    MazeGenerator[] generators = {
+        new KruskalGenerator(1), new KruskalGenerator(4), new BacktrackerGenerator(),
+        new WilsonGenerator(), new PrimGenerator(), new BinaryTreeGenerator(),
+        new SidewinderGenerator(), new EllerMazeGenerator()};
+    int[] ids = {
+        MazeGenerator.KRUSKAL, MazeGenerator.KRUSKAL, MazeGenerator.BACKTRACKER,
+        MazeGenerator.WILSON, MazeGenerator.PRIM, MazeGenerator.BINARY_TREE,
+        MazeGenerator.SIDEWINDER, MazeGenerator.ELLER};
+    int[][] sizes = {{1, 1}, {1, 7}, {7, 1}, {13, 6}};
+
+    for (int i = 0; i < generators.length; i++) {
+      t.checkExpect(generators[i].id(), ids[i]);
+
+      for (int[] size : sizes) {
+        for (int seed = 0; seed < 3; seed++) {
+          GridMaze maze = generators[i].generate(size[0], size[1], new Random(seed));
+
+          t.checkExpect(maze.width, size[0]);
+          t.checkExpect(maze.height, size[1]);
+          t.checkExpect(this.isPerfect(maze), true);
+        }
+      }
+    }
+  }
+
+  // Tests that Boruvka's algorithm makes the same maze as Kruskal's from the
+  // same seed, on any number of threads
+  void testBoruvka(Tester t) {
+    for (int[] size : SIZES) {
+      for (long seed = 0; seed < 3; seed++) {
+        GridMaze kruskal = GridMaze.kruskal(size[0], size[1], seed);
+
+        for (int threads = 1; threads <= 4; threads++) {
+          GridMaze boruvka = GridMaze.boruvka(size[0], size[1], seed, threads);
+
+          t.checkExpect(boruvka.eastWalls, kruskal.eastWalls);
+          t.checkExpect(boruvka.southWalls, kruskal.southWalls);
+        }
+      }
+    }
+  }
+
+  // Tests that tiled mazes are stitched into a single perfect maze, whether
+  // or not the tiles divide the maze evenly
+  void testTiledMaze(Tester t) {
+    int[][] tilings = {{10, 7, 4, 3}, {9, 1, 2, 1}, {1, 9, 1, 4}, {40, 30, 7, 7}, {6, 6, 6, 6}};
+
+    for (int[] tiling : tilings) {
+      for (long seed = 0; seed < 3; seed++) {
+        TiledMazeGenerator tiles =
+                new TiledMazeGenerator(tiling[0], tiling[1], tiling[2], tiling[3], seed);
+
+        t.checkExpect(this.isPerfect(tiles.assemble()), true);
+      }
+    }
+  }
+
+  // Tests that neighbouring tiles share exactly one door if they are joined
+  // and none otherwise, and that every tile is the same whenever it is made
+  void testTileDoors(Tester t) {
+    TiledMazeGenerator tiles = new TiledMazeGenerator(10, 7, 4, 3, 5);
+
+    t.checkExpect(tiles.tileWidth(2), 2);
+    t.checkExpect(tiles.tileHeight(2), 1);
+
+    for (int row = 0; row < tiles.rows; row++) {
+      for (int column = 0; column < tiles.columns; column++) {
+        GridMaze maze = tiles.tile(column, row).maze;
+        int passages = tiles.layout.passages(row * tiles.columns + column);
+        int eastDoors = 0;
+        int southDoors = 0;
+
+        for (int y = 0; y < maze.height; y++) {
+          if (!maze.hasEastWall(y * maze.width + maze.width - 1)) {
+            eastDoors++;
+          }
+        }
+
+        for (int x = 0; x < maze.width; x++) {
+          if (!maze.hasSouthWall((maze.height - 1) * maze.width + x)) {
+            southDoors++;
+          }
+        }
+
+        t.checkExpect(eastDoors, (passages & GridMaze.EAST) == 0 ? 0 : 1);
+        t.checkExpect(southDoors, (passages & GridMaze.SOUTH) == 0 ? 0 : 1);
+        t.checkExpect(tiles.tile(column, row).maze.eastWalls, maze.eastWalls);
+        t.checkExpect(tiles.tile(column, row).maze.southWalls, maze.southWalls);
+      }
+    }
+  }
+
+  // Tests that Eller's algorithm makes perfect mazes, so that its last row
+  // joins every set that is still apart
+  void testEller(Tester t) {
+    for (int[] size : SIZES) {
+      for (int seed = 0; seed < 3; seed++) {
+        t.checkExpect(this.isPerfect(
+                EllerGenerator.generate(size[0], size[1], new Random(seed))), true);
+      }
+    }
+  }
+
+  // Tests that Eller's algorithm makes exactly as many rows as asked for,
+  // and opens no passage south out of the last one
+  void testEllerLastRow(Tester t) {
+    EllerGenerator rows = new EllerGenerator(9, 4, new Random(2));
+    MazeRow row = null;
+    int count = 0;
+
+    while (rows.hasNext()) {
+      row = rows.next();
+      count++;
+    }
+
+    t.checkExpect(count, 4);
+    t.checkExpect(row.y, 3L);
+
+    for (int x = 0; x < 9; x++) {
+      t.checkExpect(row.hasSouthWall(x), true);
+    }
+
+    t.checkException(new NoSuchElementException("The maze has no rows left"), rows, "next");
+  }
+}
\ No newline at end of file
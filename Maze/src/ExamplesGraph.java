@@ -0,0 +1,164 @@
+import java.util.Random;
+import tester.Tester;
+
+// Examples and tests for the graphs mazes are made from and for the
+// analysis of the mazes made. Run with
+// tester.Main ExamplesGraph, with the jars in EclipseJars on the classpath
+class ExamplesGraph {
+  // The passages of the mazes made by Kruskal's algorithm from
+  // java.util.Random seeds 0, 1 and 2, whose first long is the seed the
+  // edge weights are derived from. Each cell in row-major order is one
+  // digit: 1 for a passage east, 2 for a passage south, 3 for both
+  static final String[] ONE_BY_SIX = {"222220", "222220", "222220"};
+  static final String[] SIX_BY_ONE = {"111110", "111110", "111110"};
+  static final String[] FIVE_BY_FOUR = {
+      "21222222122233011010",
+      "12222113323300201010",
+      "30302112123131001110"};
+  static final String[] EIGHT_BY_EIGHT = {
+      "1322222212032310311031103030233033021212211220101211111011111110",
+      "1212322211300212130231102231133222323002130203023300221201111100",
+      "2230112231133022130212122230132232011210212301102231123210110100"};
+
+  // Returns the passages of the maze of the given size made from the given
+  // seed, written out as in the fixtures above
+  String passages(int width, int height, int seed) {
+    Graph graph = new Graph(width, height, new Random(seed));
+    graph.kruskal();
+
+    StringBuilder result = new StringBuilder();
+
+    for (int i = 0; i < width * height; i++) {
+      int mask = 0;
+
+      if ((i + 1) % width != 0 && graph.edgeBetween(i, i + 1)) {
+        mask |= 1;
+      }
+
+      if (i + width < width * height && graph.edgeBetween(i, i + width)) {
+        mask |= 2;
+      }
+
+      result.append(mask);
+    }
+
+    return result.toString();
+  }
+
+  // Checks the mazes of the given size made from each seed against the
+  // given fixtures
+  void checkMazes(Tester t, int width, int height, String[] expected) {
+    for (int seed = 0; seed < expected.length; seed++) {
+      t.checkExpect(this.passages(width, height, seed), expected[seed]);
+    }
+  }
+
+  // Tests that Kruskal's algorithm makes the recorded maze for each seed
+  void testKruskal(Tester t) {
+    this.checkMazes(t, 1, 6, ONE_BY_SIX);
+    this.checkMazes(t, 6, 1, SIX_BY_ONE);
+    this.checkMazes(t, 5, 4, FIVE_BY_FOUR);
+    this.checkMazes(t, 8, 8, EIGHT_BY_EIGHT);
+  }
+
+  // Tests that edgeBetween works in both directions and only between
+  // neighbouring cells
+  void testEdgeBetween(Tester t) {
+    Graph column = new Graph(1, 6, new Random(0));
+    column.kruskal();
+
+    t.checkExpect(column.edgeBetween(0, 1), true);
+    t.checkExpect(column.edgeBetween(1, 0), true);
+    t.checkExpect(column.edgeBetween(0, 2), false);
+    t.checkExpect(column.edgeBetween(5, 6), false);
+    t.checkExpect(column.edgeBetween(-1, 0), false);
+
+    Graph grid = new Graph(5, 4, new Random(0));
+    grid.kruskal();
+
+    // The last cell of a row is not joined to the first cell of the next
+    t.checkExpect(grid.edgeBetween(4, 5), false);
+    t.checkExpect(grid.edgeBetween(0, 6), false);
+    t.checkExpect(grid.edgeBetween(0, 5), true);
+    t.checkExpect(grid.edgeBetween(5, 0), true);
+  }
+
+  // Tests that the analysis of a maze made from a fixture above measures it
+  // as worked out by hand, on one thread and on several
+  void testAnalysis(Tester t) {
+    Graph column = new Graph(1, 6, new Random(0));
+    column.kruskal();
+
+    Graph grid = new Graph(5, 4, new Random(0));
+    grid.kruskal();
+
+    for (int threads : new int[] {1, 4}) {
+      MazeAnalysis corridor = new MazeAnalysis(column, threads);
+
+      t.checkExpect(corridor.distances, new int[] {0, 1, 2, 3, 4, 5});
+      t.checkExpect(corridor.solutionLength, 5);
+      t.checkExpect(corridor.deadEnds, 2);
+      t.checkExpect(corridor.junctions, 0);
+      t.checkExpect(corridor.unreachable, 0);
+      t.checkExpect(corridor.diameter, 5);
+      t.checkExpect(corridor.diameterStart, 5);
+      t.checkExpect(corridor.diameterEnd, 0);
+      t.checkExpect(corridor.histogram, new int[] {1, 1, 1, 1, 1, 1});
+
+      MazeAnalysis maze = new MazeAnalysis(grid, threads);
+
+      t.checkExpect(maze.distances, new int[] {
+          0, 9, 8, 11, 10,
+          1, 6, 7, 10, 9,
+          2, 5, 6, 7, 8,
+          3, 4, 5, 8, 9});
+      t.checkExpect(maze.solutionLength, 9);
+      // Cells 0, 1, 3, 4, 6 and 19
+      t.checkExpect(maze.deadEnds, 6);
+      // Cells 9, 12, 13 and 16
+      t.checkExpect(maze.junctions, 4);
+      t.checkExpect(maze.unreachable, 0);
+      t.checkExpect(maze.diameter, 11);
+      t.checkExpect(maze.diameterStart, 3);
+      t.checkExpect(maze.diameterEnd, 0);
+      t.checkExpect(maze.histogram, new int[] {1, 1, 1, 1, 1, 2, 2, 2, 3, 3, 2, 1});
+    }
+  }
+
+  // Tests the analysis of a maze of a single cell, which is no dead end as
+  // it has no passages, and of a maze whose cells cannot all be reached
+  void testAnalysisEdgeCases(Tester t) {
+    for (int threads : new int[] {1, 4}) {
+      MazeAnalysis single = new MazeAnalysis(new GridMaze(1, 1), threads);
+
+      t.checkExpect(single.distances, new int[] {0});
+      t.checkExpect(single.solutionLength, 0);
+      t.checkExpect(single.deadEnds, 0);
+      t.checkExpect(single.junctions, 0);
+      t.checkExpect(single.unreachable, 0);
+      t.checkExpect(single.diameter, 0);
+      t.checkExpect(single.histogram, new int[] {1});
+
+      GridMaze walled = new GridMaze(3, 2);
+      walled.carve(0, 1);
+
+      MazeAnalysis apart = new MazeAnalysis(walled, threads);
+
+      t.checkExpect(apart.distances, new int[] {0, 1, -1, -1, -1, -1});
+      t.checkExpect(apart.solutionLength, -1);
+      t.checkExpect(apart.deadEnds, 2);
+      t.checkExpect(apart.unreachable, 4);
+      t.checkExpect(apart.diameter, 1);
+      t.checkExpect(apart.diameterStart, 1);
+      t.checkExpect(apart.diameterEnd, 0);
+      t.checkExpect(apart.histogram, new int[] {1, 1});
+    }
+  }
+
+  // Tests that graphs of invalid sizes cannot be made
+  void testInvalidGraph(Tester t) {
+    t.checkConstructorException(
+            new IllegalArgumentException("Invalid graph dimensions: 0x5"),
+            "Graph", 0, 5, new Random(0));
+  }
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+import java.util.Random;
+import tester.Tester;
+
+// Examples and tests for the view of the maze game. Run with
+// tester.Main ExamplesMaze, with the jars in EclipseJars on the classpath
+class ExamplesMaze {
+  // Returns a game of a maze too large to show whole at the nearest zoom
+  Maze game() {
+    return new Maze(100, 100, new Random(0));
+  }
+
+  // Tests that the view starts in the top left corner at the nearest zoom,
+  // and cannot be scrolled off either end of the maze
+  void testScrollTo(Tester t) {
+    Maze maze = this.game();
+
+    t.checkExpect(maze.tileSize, Maze.TILE_SIZE);
+    t.checkExpect(maze.viewColumns, Maze.MAX_VIEW_WIDTH / Maze.TILE_SIZE);
+    t.checkExpect(maze.viewRows, Maze.MAX_VIEW_HEIGHT / Maze.TILE_SIZE);
+    t.checkExpect(maze.viewColumn, 0);
+    t.checkExpect(maze.viewRow, 0);
+
+    maze.scrollTo(-5, -5);
+    t.checkExpect(maze.viewColumn, 0);
+    t.checkExpect(maze.viewRow, 0);
+
+    maze.scrollTo(1000, 1000);
+    t.checkExpect(maze.viewColumn, 100 - maze.viewColumns);
+    t.checkExpect(maze.viewRow, 100 - maze.viewRows);
+
+    maze.scrollTo(20, 30);
+    t.checkExpect(maze.viewColumn, 20);
+    t.checkExpect(maze.viewRow, 30);
+  }
+
+  // Tests that zooming keeps the cell in the centre of the view in the
+  // centre, and never shows more columns or rows than the maze has
+  void testZoomTo(Tester t) {
+    Maze maze = this.game();
+
+    maze.scrollTo(20, 30);
+    // The view is 60x40 cells with cell (50, 50) in its centre
+    maze.zoomTo(1);
+    t.checkExpect(maze.tileSize, 10);
+    t.checkExpect(maze.viewColumns, 100);
+    t.checkExpect(maze.viewRows, 80);
+    t.checkExpect(maze.viewColumn, 0);
+    t.checkExpect(maze.viewRow, 10);
+
+    maze.zoomTo(0);
+    t.checkExpect(maze.viewColumn, 20);
+    t.checkExpect(maze.viewRow, 30);
+
+    maze.zoomTo(Maze.ZOOM_LEVELS.length - 1);
+    t.checkExpect(maze.tileSize, 1);
+    t.checkExpect(maze.viewColumns, 100);
+    t.checkExpect(maze.viewRows, 100);
+    t.checkExpect(maze.viewColumn, 0);
+    t.checkExpect(maze.viewRow, 0);
+  }
+
+  // Tests that the view is centred on a cell that goes out of view, and
+  // left alone while the cell stays in view
+  void testKeepInView(Tester t) {
+    Maze maze = this.game();
+
+    t.checkExpect(maze.inView(10 * 100 + 10), true);
+    maze.keepInView(10 * 100 + 10);
+    t.checkExpect(maze.viewColumn, 0);
+    t.checkExpect(maze.viewRow, 0);
+
+    t.checkExpect(maze.inView(45 * 100 + 55), false);
+    maze.keepInView(45 * 100 + 55);
+    t.checkExpect(maze.viewColumn, 55 - maze.viewColumns / 2);
+    t.checkExpect(maze.viewRow, 45 - maze.viewRows / 2);
+    t.checkExpect(maze.inView(45 * 100 + 55), true);
+
+    // Near the corner the view goes only as far as the edge of the maze
+    maze.keepInView(99 * 100 + 99);
+    t.checkExpect(maze.viewColumn, 100 - maze.viewColumns);
+    t.checkExpect(maze.viewRow, 100 - maze.viewRows);
+  }
+}
\ No newline at end of file
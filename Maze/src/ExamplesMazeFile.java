@@ -0,0 +1,106 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import tester.Tester;
+
+// Examples and tests for saving mazes to files and reading them back. Run
+// with tester.Main ExamplesMazeFile, with the jars in EclipseJars on the classpath
+class ExamplesMazeFile {
+  // The dimensions of the mazes saved by the tests, including mazes whose
+  // number of cells is not a multiple of the 64 cells in a word
+  static final int[][] SIZES = {{65, 5}, {1, 1}, {64, 1}, {1, 64}, {7, 9}};
+
+  // Returns a new empty temporary file, deleted when the tests finish
+  Path tempFile() throws IOException {
+    Path file = Files.createTempFile("maze", ".bin");
+
+    file.toFile().deleteOnExit();
+
+    return file;
+  }
+
+  // Returns the message of the exception thrown opening the given file, or
+  // "opened" if it opens
+  String openError(Path file) {
+    try {
+      MazeFile.open(file);
+
+      return "opened";
+    }
+    catch (IOException e) {
+      return e.getMessage();
+    }
+  }
+
+  // Returns a copy of the given maze file with the int at the given byte
+  // offset replaced by the given value
+  Path withInt(Path file, int offset, int value) throws IOException {
+    ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+
+    bytes.putInt(offset, value);
+
+    return Files.write(this.tempFile(), bytes.array());
+  }
+
+  // Returns a copy of the given maze file cut short to the given number of bytes
+  Path truncated(Path file, int length) throws IOException {
+    return Files.write(this.tempFile(), Arrays.copyOf(Files.readAllBytes(file), length));
+  }
+
+  // Tests that a saved maze loads and maps back with the same walls, the
+  // same passages from every cell and the same header
+  void testSaveAndLoad(Tester t) throws IOException {
+    for (int[] size : SIZES) {
+      for (long seed = 0; seed < 3; seed++) {
+        GridMaze maze = GridMaze.kruskal(size[0], size[1], seed);
+        Path file = this.tempFile();
+
+        MazeFile.save(maze, seed, MazeGenerator.KRUSKAL, file);
+
+        GridMaze loaded = MazeFile.load(file);
+        MappedMaze mapped = MazeFile.open(file);
+
+        t.checkExpect(Files.size(file), MazeFile.HEADER_BYTES
+                + 16L * MazeFile.planeWords(maze.cellCount()));
+        t.checkExpect(loaded.eastWalls, maze.eastWalls);
+        t.checkExpect(loaded.southWalls, maze.southWalls);
+        t.checkExpect(mapped.getWidth(), size[0]);
+        t.checkExpect(mapped.getHeight(), size[1]);
+        t.checkExpect(mapped.seed, seed);
+        t.checkExpect(mapped.generator, MazeGenerator.KRUSKAL);
+
+        for (int i = 0; i < maze.cellCount(); i++) {
+          t.checkExpect(mapped.passages(i), loaded.passages(i));
+          t.checkExpect(loaded.passages(i), maze.passages(i));
+        }
+      }
+    }
+  }
+
+  // Tests that files which are not whole maze files of this version are
+  // rejected when they are opened
+  void testRejected(Tester t) throws IOException {
+    Path file = this.tempFile();
+
+    MazeFile.save(GridMaze.kruskal(65, 5, 0L), 0L, MazeGenerator.KRUSKAL, file);
+
+    Path badMagic = this.withInt(file, 0, 0x4D415A46);
+    Path badVersion = this.withInt(file, 4, MazeFile.VERSION + 1);
+    Path badWidth = this.withInt(file, 8, 0);
+    Path noPlanes = this.truncated(file, MazeFile.HEADER_BYTES);
+    Path shortPlane = this.truncated(file, (int) Files.size(file) - 1);
+    Path noHeader = this.truncated(file, MazeFile.HEADER_BYTES - 1);
+
+    t.checkExpect(this.openError(file), "opened");
+    t.checkExpect(this.openError(badMagic), "Not a maze file: " + badMagic);
+    t.checkExpect(this.openError(badVersion),
+            "Unsupported maze file version 2: " + badVersion);
+    t.checkExpect(this.openError(badWidth), "Invalid maze dimensions 0x5: " + badWidth);
+    t.checkExpect(this.openError(noPlanes), "Truncated maze file: " + noPlanes);
+    t.checkExpect(this.openError(shortPlane), "Truncated maze file: " + shortPlane);
+    t.checkExpect(this.openError(noHeader), "Not a maze file: " + noHeader);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,226 @@
+import java.util.Random;
+import tester.Tester;
+
+// Examples and tests for the structures the maze solvers are built on. Run
+// with tester.Main ExamplesSolvers, with the jars in EclipseJars on the classpath
+class ExamplesSolvers {
+  // Tests that cells come out of a heap in order of priority
+  void testCellHeapOrder(Tester t) {
+    CellHeap heap = new CellHeap(6);
+
+    heap.push(0, 40);
+    heap.push(1, 10);
+    heap.push(2, 30);
+    heap.push(3, 20);
+    heap.push(4, 50);
+
+    t.checkExpect(heap.contains(3), true);
+    t.checkExpect(heap.contains(5), false);
+    t.checkExpect(heap.pop(), 1);
+    t.checkExpect(heap.pop(), 3);
+    t.checkExpect(heap.contains(3), false);
+    t.checkExpect(heap.pop(), 2);
+    t.checkExpect(heap.pop(), 0);
+    t.checkExpect(heap.pop(), 4);
+    t.checkExpect(heap.isEmpty(), true);
+    t.checkException(new IllegalStateException("The heap is empty"), heap, "pop");
+  }
+
+  // Tests that pushing a queued cell again lowers its priority in place, and
+  // never raises it
+  void testCellHeapDecreaseKey(Tester t) {
+    CellHeap heap = new CellHeap(4);
+
+    heap.push(0, 10);
+    heap.push(1, 20);
+    heap.push(2, 30);
+    heap.push(3, 40);
+
+    // Lowering the last cell past every other
+    heap.push(3, 5);
+    // Trying to raise the first cell
+    heap.push(0, 35);
+
+    t.checkExpect(heap.size, 4);
+    t.checkExpect(heap.priority[0], 10);
+    t.checkExpect(heap.pop(), 3);
+    t.checkExpect(heap.pop(), 0);
+    t.checkExpect(heap.pop(), 1);
+    t.checkExpect(heap.pop(), 2);
+
+    // A cell can be queued again once it has been removed
+    heap.push(2, 99);
+    t.checkExpect(heap.priority[2], 99);
+    t.checkExpect(heap.pop(), 2);
+  }
+
+  // Determines whether the given cells run from the given start to the given
+  // goal through the maze, each cell joined by a passage to the next
+  boolean isPath(GridMaze maze, int[] path, int start, int goal) {
+    if (path[0] != start || path[path.length - 1] != goal) {
+      return false;
+    }
+
+    for (int i = 1; i < path.length; i++) {
+      if (!maze.edgeBetween(path[i - 1], path[i])) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  // Determines whether the given cells are a path from the given start to
+  // the given goal in as few moves as a breadth-first search takes
+  boolean isShortestPath(GridMaze maze, int[] path, int start, int goal) {
+    int[] shortest = MazeSolver.create(SearchStrategy.BREADTH_FIRST, maze, start, goal)
+            .solve().path;
+
+    return this.isPath(maze, path, start, goal) && path.length == shortest.length;
+  }
+
+  // Tests that searching from both ends at once finds the path between two
+  // cells, including when they are the same cell or neighbours
+  void testBidirectional(Tester t) {
+    int[][] sizes = {{1, 12}, {12, 1}, {9, 7}, {30, 20}};
+    Random rdm = new Random(6);
+
+    for (int[] size : sizes) {
+      GridMaze maze = GridMaze.kruskal(size[0], size[1], 3L);
+      int cells = maze.cellCount();
+
+      for (int i = 0; i < 30; i++) {
+        int start = rdm.nextInt(cells);
+        int goal = rdm.nextInt(cells);
+        SolveResult result =
+                MazeSolver.create(SearchStrategy.BIDIRECTIONAL, maze, start, goal).solve();
+
+        t.checkExpect(result.solved, true);
+        t.checkExpect(this.isShortestPath(maze, result.path, start, goal), true);
+      }
+
+      t.checkExpect(MazeSolver.create(SearchStrategy.BIDIRECTIONAL, maze, 0, cells - 1)
+              .solve().path,
+              MazeSolver.create(SearchStrategy.BREADTH_FIRST, maze, 0, cells - 1).solve().path);
+    }
+
+    GridMaze column = GridMaze.kruskal(1, 12, 3L);
+
+    // The start is the goal
+    t.checkExpect(MazeSolver.create(SearchStrategy.BIDIRECTIONAL, column, 5, 5).solve().path,
+            new int[] {5});
+    // The start and the goal are neighbours, either way round
+    t.checkExpect(MazeSolver.create(SearchStrategy.BIDIRECTIONAL, column, 5, 6).solve().path,
+            new int[] {5, 6});
+    t.checkExpect(MazeSolver.create(SearchStrategy.BIDIRECTIONAL, column, 6, 5).solve().path,
+            new int[] {6, 5});
+  }
+
+  // Tests that the searches guided by the distance to the goal find a path
+  // to it, that A* finds a shortest one even when the maze has loops, and
+  // that neither expands more cells than a breadth-first search on these mazes
+  void testInformedSearch(Tester t) {
+    int[][] sizes = {{1, 12}, {12, 1}, {9, 7}, {30, 20}};
+
+    for (int[] size : sizes) {
+      for (long seed = 0; seed < 3; seed++) {
+        GridMaze maze = GridMaze.kruskal(size[0], size[1], seed);
+        int goal = maze.cellCount() - 1;
+        int breadthFirst = MazeSolver.create(SearchStrategy.BREADTH_FIRST, maze, 0, goal)
+                .solve().visitedCount;
+
+        for (SearchStrategy strategy
+                : new SearchStrategy[] {SearchStrategy.A_STAR, SearchStrategy.GREEDY_BEST_FIRST}) {
+          SolveResult result = MazeSolver.create(strategy, maze, 0, goal).solve();
+
+          t.checkExpect(this.isShortestPath(maze, result.path, 0, goal), true);
+          t.checkExpect(result.visitedCount <= breadthFirst, true);
+        }
+
+        // Opening extra passages east so that there is more than one way through
+        Random rdm = new Random(seed);
+
+        for (int i = 0; i < maze.cellCount() / 5; i++) {
+          int cell = rdm.nextInt(maze.cellCount());
+
+          if ((cell + 1) % maze.width != 0) {
+            maze.carve(cell, cell + 1);
+          }
+        }
+
+        t.checkExpect(this.isShortestPath(maze,
+                MazeSolver.create(SearchStrategy.A_STAR, maze, 0, goal).solve().path, 0, goal),
+                true);
+        t.checkExpect(this.isPath(maze,
+                MazeSolver.create(SearchStrategy.GREEDY_BEST_FIRST, maze, 0, goal).solve().path,
+                0, goal), true);
+      }
+    }
+  }
+
+  // Returns the deepest common ancestor of the given cells of the given tree
+  // by climbing one parent at a time, to check the jump pointers against
+  int climbToCommonAncestor(MazeTree tree, int a, int b) {
+    while (tree.depth[a] > tree.depth[b]) {
+      a = tree.parent[a];
+    }
+
+    while (tree.depth[b] > tree.depth[a]) {
+      b = tree.parent[b];
+    }
+
+    while (a != b) {
+      a = tree.parent[a];
+      b = tree.parent[b];
+    }
+
+    return a;
+  }
+
+  // Tests that the jump pointers find the same common ancestors and
+  // distances as climbing and searching do, including in mazes one cell
+  // wide or high
+  void testMazeTree(Tester t) {
+    int[][] sizes = {{1, 12}, {12, 1}, {9, 7}, {30, 20}};
+    Random rdm = new Random(4);
+
+    for (int[] size : sizes) {
+      GridMaze maze = GridMaze.kruskal(size[0], size[1], 11L);
+      MazeTree tree = new MazeTree(maze);
+      int cells = maze.cellCount();
+
+      for (int i = 0; i < 50; i++) {
+        int a = rdm.nextInt(cells);
+        int b = rdm.nextInt(cells);
+
+        t.checkExpect(tree.lowestCommonAncestor(a, b), this.climbToCommonAncestor(tree, a, b));
+        t.checkExpect(tree.distance(a, b), new ParallelBfs(1).distances(maze, a)[b]);
+      }
+
+      t.checkExpect(tree.lowestCommonAncestor(0, cells - 1), 0);
+      t.checkExpect(tree.path(0, cells - 1),
+              MazeSolver.create(SearchStrategy.BREADTH_FIRST, maze, 0, cells - 1).solve().path);
+      t.checkExpect(tree.path(cells - 1, cells - 1), new int[] {cells - 1});
+    }
+  }
+
+  // Tests that only mazes with exactly one path between every two cells
+  // have a tree
+  void testMazeTreeInvalid(Tester t) {
+    GridMaze loop = new GridMaze(2, 2);
+
+    loop.carve(0, 1);
+    loop.carve(0, 2);
+    loop.carve(1, 3);
+    loop.carve(2, 3);
+
+    t.checkConstructorException(new IllegalArgumentException(
+            "The maze is not a tree: cell 3 can be reached by more than one path"),
+            "MazeTree", loop);
+    t.checkConstructorException(new IllegalArgumentException(
+            "The maze is not connected: 1 cells cannot be reached from the first"),
+            "MazeTree", new GridMaze(2, 1));
+    t.checkException(new IllegalArgumentException("Invalid cell: 4"),
+            new MazeTree(GridMaze.kruskal(2, 2, 0L)), "distance", 0, 4);
+  }
+}
\ No newline at end of file
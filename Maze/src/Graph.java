@@ -1,24 +1,67 @@
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Random;
 
 // To represent an undirected graph, including both the graph from which the
 // minimum spanning tree is created, as well as the minimum spanning tree itself
-class Graph {
+class Graph implements MazeLayout {
+  // The upper bound (exclusive) on the random weights given to edges
+  static final int MAX_WEIGHT = 100000;
+
+  // The dimensions of the grid this graph was made from
+  int width;
+  int height;
+
   // The nodes in this graph
   ArrayList<Node> nodes;
   // The edges in this graph
   ArrayList<Edge> edges;
 
+  // The number of threads used to make the minimum spanning tree
+  int parallelism;
+
+  // The walls of the maze formed by the minimum spanning tree,
+  // or null until the tree has been made
+  GridMaze grid;
+
+  // The directions in which each cell has a passage, as a GridMaze passage
+  // mask, or null until the tree has been made
+  byte[] passages;
+
+  // The minimum spanning tree prepared for answering path queries, or null
+  // until the first query
+  MazeTree tree;
+
   // Constructor that makes a new random rectangular graph with the given
   // width and height from the given random number generator
   Graph(int width, int height, Random rdm) {
+    this(width, height, rdm, 1);
+  }
+
+  // Constructor that makes a new random rectangular graph with the given
+  // width and height from the given random number generator, whose minimum
+  // spanning tree is made using the given number of threads
+  Graph(int width, int height, Random rdm, int parallelism) {
+    this(width, height, rdm.nextLong(), parallelism);
+  }
+
+  // Constructor that makes a new random rectangular graph with the given
+  // width and height whose edge weights are derived from the given seed,
+  // and whose minimum spanning tree is made using the given number of threads
+  Graph(int width, int height, long seed, int parallelism) {
     // Throw an exception if the graph dimensions are too small
     if (width <= 0 || height <= 0) {
       throw new IllegalArgumentException(
               "Invalid graph dimensions: " + width + "x" + height);
     }
 
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("Invalid parallelism: " + parallelism);
+    }
+
+    this.width = width;
+    this.height = height;
+    this.parallelism = parallelism;
+
     nodes = new ArrayList<Node>();
     edges = new ArrayList<Edge>();
 
@@ -30,12 +73,12 @@ class Graph {
     // Connecting each node to its adjacent nodes
     for (int i = 0; i < width * height; i++) {
       if ((i + 1) % width != 0) {
-        this.connect(i, i + 1, rdm);
+        this.connect(i, i + 1, seed);
       }
     }
 
     for (int i = 0; i < width * (height - 1); i++) {
-      this.connect(i, i + width, rdm);
+      this.connect(i, i + width, seed);
     }
   }
 
@@ -44,14 +87,16 @@ class Graph {
     return this.nodes.get(index);
   }
 
-  // Connects the two nodes in this graph indexed at the given integers with an edge
-  void connect(int index1, int index2, Random rdm) {
+  // Connects the two nodes in this graph indexed at the given integers with an
+  // edge, weighted by its number in this graph and the given seed
+  void connect(int index1, int index2, long seed) {
     if ((index1 >= 0 && index1 < this.nodes.size())
             && (index2 >= 0 && index2 < this.nodes.size())) {
       Node node1 = this.nodes.get(index1);
       Node node2 = this.nodes.get(index2);
 
-      Edge nextEdge = new Edge(node1, node2, rdm.nextInt(100000));
+      Edge nextEdge = new Edge(node1, node2, index1, index2,
+              EdgeWeights.weight(seed, this.edges.size()));
 
       this.edges.add(nextEdge);
 
@@ -63,6 +108,16 @@ class Graph {
   // Determines whether there is an edge between the nodes
   // indexed at the two given integers
   public boolean edgeBetween(int index1, int index2) {
+    // Once the MST is made, each cell's passage mask answers this
+    // with a single array read
+    if (this.passages != null) {
+      if (index1 < 0 || index1 >= this.passages.length) {
+        return false;
+      }
+
+      return (this.passages[index1] & this.direction(index1, index2)) != 0;
+    }
+
     if ((index1 >= 0 && index1 < this.nodes.size())
             && (index2 >= 0 && index2 < this.nodes.size())) {
       Node node1 = this.nodes.get(index1);
@@ -74,60 +129,164 @@ class Graph {
     return false;
   }
 
+  // Returns the passage mask bit for the direction from the first cell to the
+  // second, or 0 if they are not neighbours in the grid
+  int direction(int index1, int index2) {
+    int offset = index2 - index1;
+
+    // Checking vertical neighbours first, since in a grid one cell wide
+    // they are also one index apart
+    if (offset == this.width) {
+      return GridMaze.SOUTH;
+    }
+    else if (offset == -this.width) {
+      return GridMaze.NORTH;
+    }
+    else if (offset == 1) {
+      return GridMaze.EAST;
+    }
+    else if (offset == -1) {
+      return GridMaze.WEST;
+    }
+
+    return 0;
+  }
+
+  // Returns the width of this maze in cells
+  public int getWidth() {
+    return this.width;
+  }
+
+  // Returns the height of this maze in cells
+  public int getHeight() {
+    return this.height;
+  }
+
+  // Returns the mask of directions in which the cell indexed at the given
+  // integer has a passage, once the MST has been made
+  public int passages(int index) {
+    return this.passages[index];
+  }
+
+  // Creates a minimum spanning tree from this graph, in parallel with
+  // Boruvka's algorithm if this graph was given more than one thread or
+  // otherwise with Kruskal's. Both give the same tree
+  void minimumSpanningTree() {
+    if (this.parallelism > 1) {
+      this.boruvka();
+    }
+    else {
+      this.kruskal();
+    }
+  }
+
   // Creates a minimum spanning tree from this graph using Kruskal's algorithm
   void kruskal() {
-    // Creating a sorted list of the edges in this graph
-    ArrayList<Edge> sortedEdges = new ArrayList<Edge>(this.edges);
-    sortedEdges.sort(new EdgeComparator());
+    long start = System.nanoTime();
 
-    // The final list of edges in the MST
-    ArrayList<Edge> treeEdges = new ArrayList<Edge>();
+    // Ordering the edges in this graph by weight
+    int[] weights = new int[this.edges.size()];
 
-    // Creating a HashMap that maps the nodes in this graph to their representative
-    HashMap<Integer, Integer> representatives = new HashMap<Integer, Integer>();
-
-    for (int i = 0; i < this.nodes.size(); i++) {
-      representatives.put(i, i);
+    for (int i = 0; i < weights.length; i++) {
+      weights[i] = this.edges.get(i).weight;
     }
 
-    // The next edge to be considered for the MST
-    Edge nextEdge;
+    int[] sortedEdges = EdgeSorter.sortedOrder(weights);
 
-    Integer fromRep;
-    Integer toRep;
+    // The final list of edges in the MST
+    ArrayList<Edge> treeEdges = new ArrayList<Edge>();
 
-    while (treeEdges.size() < this.nodes.size() - 1) {
-      nextEdge = sortedEdges.remove(0);
+    // Keeping track of which nodes are already connected in the MST
+    UnionFind components = new UnionFind(this.nodes.size());
 
-      // Getting the representatives of the nodes on each side of the edge
-      fromRep = representatives.get(this.nodes.indexOf(nextEdge.from));
-      while (fromRep != representatives.get(fromRep)) {
-        fromRep = representatives.get(fromRep);
-      }
+    // The position of the next edge to be considered for the MST
+    int cursor = 0;
 
-      toRep = representatives.get(this.nodes.indexOf(nextEdge.to));
-      while (toRep != representatives.get(toRep)) {
-        toRep = representatives.get(toRep);
-      }
+    while (treeEdges.size() < this.nodes.size() - 1 && cursor < sortedEdges.length) {
+      Edge nextEdge = this.edges.get(sortedEdges[cursor]);
+      cursor++;
 
       // Adding the edge to the MST if it does not create a loop
-      if (fromRep != toRep) {
+      if (components.union(nextEdge.fromIndex, nextEdge.toIndex)) {
         treeEdges.add(nextEdge);
-        representatives.replace(fromRep, toRep);
-      }
-      else {
-        // Removing edges that will not appear in the MST
-        nextEdge.from.removeEdge(nextEdge);
-        nextEdge.to.removeEdge(nextEdge);
       }
     }
 
-    // Removing the edges that remain in the list
-    for (Edge e : sortedEdges) {
-      e.from.removeEdge(e);
-      e.to.removeEdge(e);
+    this.useTree(treeEdges);
+
+    MazeMetrics.GLOBAL.kruskal.recordSince(start);
+  }
+
+  // Creates a minimum spanning tree from this graph using Boruvka's
+  // algorithm, running on this graph's number of threads
+  void boruvka() {
+    int[] from = new int[this.edges.size()];
+    int[] to = new int[this.edges.size()];
+    int[] weights = new int[this.edges.size()];
+
+    for (int i = 0; i < weights.length; i++) {
+      Edge e = this.edges.get(i);
+
+      from[i] = e.fromIndex;
+      to[i] = e.toIndex;
+      weights[i] = e.weight;
+    }
+
+    int[] tree = new ParallelBoruvka(this.parallelism)
+            .spanningTree(this.nodes.size(), from, to, weights);
+
+    ArrayList<Edge> treeEdges = new ArrayList<Edge>(tree.length);
+
+    for (int i : tree) {
+      treeEdges.add(this.edges.get(i));
+    }
+
+    this.useTree(treeEdges);
+  }
+
+  // Replaces the edges of this graph with the given edges of its minimum
+  // spanning tree, and records the maze they form
+  void useTree(ArrayList<Edge> treeEdges) {
+    // Rebuilding each node's list of edges from the edges in the MST
+    for (Node n : this.nodes) {
+      n.clearEdges();
+    }
+
+    for (Edge e : treeEdges) {
+      e.from.addEdge(e);
+      e.to.addEdge(e);
+    }
+
+    // Recording the walls left standing by the MST
+    this.grid = new GridMaze(this.width, this.height);
+
+    for (Edge e : treeEdges) {
+      this.grid.carve(e.fromIndex, e.toIndex);
     }
 
+    this.passages = this.grid.passageMasks();
+    this.tree = null;
+
     this.edges = treeEdges;
   }
+
+  // Returns the minimum spanning tree of this graph prepared for path
+  // queries, preparing it the first time it is asked for
+  MazeTree tree() {
+    if (this.grid == null) {
+      throw new IllegalStateException("The minimum spanning tree has not been made");
+    }
+
+    if (this.tree == null) {
+      this.tree = new MazeTree(this);
+    }
+
+    return this.tree;
+  }
+
+  // Returns the cells on the unique path through the maze from the first
+  // given cell to the second
+  int[] pathBetween(int from, int to) {
+    return this.tree().path(from, to);
+  }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+// To represent a greedy best-first search of a maze, which always expands
+// the cell that looks closest to the goal regardless of how far it is from
+// the start
+class GreedySolver extends BestFirstSolver {
+  // Constructor
+  GreedySolver(MazeLayout maze, int start, int goal) {
+    super(maze, start, goal);
+  }
+
+  int priority(int cell, int distance) {
+    return this.manhattan(cell);
+  }
+}
@@ -0,0 +1,227 @@
+import java.util.Arrays;
+import java.util.Random;
+
+// To represent a rectangular maze compactly as two planes of wall bits, one
+// for the wall on the east side of each cell and one for the wall on its south
+// side, indexed by cell number in row-major order
+class GridMaze implements WallPlanes {
+  // The bit for each direction in a cell's passage mask
+  static final int NORTH = 1;
+  static final int EAST = 2;
+  static final int SOUTH = 4;
+  static final int WEST = 8;
+
+  // Every direction, in the order of their bits
+  static final int[] DIRECTIONS = {NORTH, EAST, SOUTH, WEST};
+
+  // The dimensions of this maze in cells
+  int width;
+  int height;
+
+  // The east and south walls of each cell, packed 64 cells to a word
+  long[] eastWalls;
+  long[] southWalls;
+
+  // Constructor that makes a maze of the given dimensions with every wall up
+  GridMaze(int width, int height) {
+    // Throw an exception if the maze dimensions are invalid
+    if (width <= 0 || height <= 0 || (long) width * height > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+              "Invalid maze dimensions: " + width + "x" + height);
+    }
+
+    this.width = width;
+    this.height = height;
+
+    int words = (int) (((long) width * height + 63) >>> 6);
+
+    this.eastWalls = new long[words];
+    this.southWalls = new long[words];
+
+    Arrays.fill(this.eastWalls, -1L);
+    Arrays.fill(this.southWalls, -1L);
+  }
+
+  // Makes a new random maze of the given dimensions from the given random
+  // number generator using Kruskal's algorithm, without building any Node or
+  // Edge objects. Gives the same maze as a Graph built from an identical
+  // generator would after kruskal()
+  static GridMaze kruskal(int width, int height, Random rdm) {
+    return kruskal(width, height, rdm.nextLong());
+  }
+
+  // Makes a new random maze of the given dimensions whose edge weights are
+  // derived from the given seed, using Kruskal's algorithm
+  static GridMaze kruskal(int width, int height, long seed) {
+    long start = System.nanoTime();
+    GridMaze maze = new GridMaze(width, height);
+    int[] weights = maze.edgeWeights(seed);
+
+    int[] sortedEdges = EdgeSorter.sortedOrder(weights);
+    UnionFind components = new UnionFind(width * height);
+
+    int treeEdges = 0;
+
+    for (int cursor = 0; cursor < sortedEdges.length
+            && treeEdges < width * height - 1; cursor++) {
+      int edge = sortedEdges[cursor];
+
+      if (components.union(maze.edgeFrom(edge), maze.edgeTo(edge))) {
+        maze.carve(maze.edgeFrom(edge), maze.edgeTo(edge));
+        treeEdges++;
+      }
+    }
+
+    MazeMetrics.GLOBAL.kruskal.recordSince(start);
+
+    return maze;
+  }
+
+  // Makes a new random maze of the given dimensions from the given random
+  // number generator using Boruvka's algorithm on the given number of
+  // threads. Gives the same maze as kruskal() would
+  static GridMaze boruvka(int width, int height, Random rdm, int parallelism) {
+    return boruvka(width, height, rdm.nextLong(), parallelism);
+  }
+
+  // Makes a new random maze of the given dimensions whose edge weights are
+  // derived from the given seed, using Boruvka's algorithm on the given
+  // number of threads. Gives the same maze whatever the number of threads
+  static GridMaze boruvka(int width, int height, long seed, int parallelism) {
+    GridMaze maze = new GridMaze(width, height);
+    int[] weights = maze.edgeWeights(seed);
+
+    int[] from = new int[weights.length];
+    int[] to = new int[weights.length];
+
+    for (int i = 0; i < weights.length; i++) {
+      from[i] = maze.edgeFrom(i);
+      to[i] = maze.edgeTo(i);
+    }
+
+    for (int edge : new ParallelBoruvka(parallelism)
+            .spanningTree(width * height, from, to, weights)) {
+      maze.carve(from[edge], to[edge]);
+    }
+
+    return maze;
+  }
+
+  // Returns the weight derived from the given seed of every edge between
+  // neighbouring cells of this maze, numbered in the order Graph adds its
+  // edges: every horizontal edge in row-major order, then every vertical edge
+  int[] edgeWeights(long seed) {
+    long total = this.horizontalEdges() + (long) this.width * (this.height - 1);
+
+    if (total > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException(
+              "Too many edges to generate: " + this.width + "x" + this.height);
+    }
+
+    int[] weights = new int[(int) total];
+
+    for (int i = 0; i < weights.length; i++) {
+      weights[i] = EdgeWeights.weight(seed, i);
+    }
+
+    return weights;
+  }
+
+  // Returns the number of edges between horizontally neighbouring cells
+  long horizontalEdges() {
+    return (long) (this.width - 1) * this.height;
+  }
+
+  // Returns the lower-indexed cell joined by the edge with the given number
+  int edgeFrom(int edge) {
+    if (edge < this.horizontalEdges()) {
+      return edge / (this.width - 1) * this.width + edge % (this.width - 1);
+    }
+
+    return (int) (edge - this.horizontalEdges());
+  }
+
+  // Returns the higher-indexed cell joined by the edge with the given number
+  int edgeTo(int edge) {
+    if (edge < this.horizontalEdges()) {
+      return this.edgeFrom(edge) + 1;
+    }
+
+    return this.edgeFrom(edge) + this.width;
+  }
+
+  // Returns the word of the east wall plane with the given index
+  public long eastWord(int word) {
+    return this.eastWalls[word];
+  }
+
+  // Returns the word of the south wall plane with the given index
+  public long southWord(int word) {
+    return this.southWalls[word];
+  }
+
+  // Puts up or takes down the wall on the east side of the cell indexed at
+  // the given integer, including a wall on the edge of this maze
+  void setEastWall(int cell, boolean wall) {
+    if (wall) {
+      this.eastWalls[cell >>> 6] |= 1L << cell;
+    }
+    else {
+      this.eastWalls[cell >>> 6] &= ~(1L << cell);
+    }
+  }
+
+  // Puts up or takes down the wall on the south side of the cell indexed at
+  // the given integer, including a wall on the edge of this maze
+  void setSouthWall(int cell, boolean wall) {
+    if (wall) {
+      this.southWalls[cell >>> 6] |= 1L << cell;
+    }
+    else {
+      this.southWalls[cell >>> 6] &= ~(1L << cell);
+    }
+  }
+
+  // Removes the wall between the two adjacent cells indexed at the given integers
+  void carve(int index1, int index2) {
+    int first = Math.min(index1, index2);
+    int second = Math.max(index1, index2);
+
+    if (first < 0 || second >= this.cellCount()) {
+      throw new IllegalArgumentException(
+              "Invalid cells: " + index1 + ", " + index2);
+    }
+
+    if (second == first + 1 && second % this.width != 0) {
+      this.eastWalls[first >>> 6] &= ~(1L << first);
+    }
+    else if (second == first + this.width) {
+      this.southWalls[first >>> 6] &= ~(1L << first);
+    }
+    else {
+      throw new IllegalArgumentException(
+              "Cells are not adjacent: " + index1 + ", " + index2);
+    }
+  }
+
+  // Returns the width of this maze in cells
+  public int getWidth() {
+    return this.width;
+  }
+
+  // Returns the height of this maze in cells
+  public int getHeight() {
+    return this.height;
+  }
+
+  // Returns the passage mask of every cell in this maze
+  byte[] passageMasks() {
+    byte[] masks = new byte[this.cellCount()];
+
+    for (int i = 0; i < masks.length; i++) {
+      masks[i] = (byte) this.passages(i);
+    }
+
+    return masks;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+import java.util.Random;
+
+// Generates mazes with randomized Kruskal's algorithm, in parallel with
+// Boruvka's algorithm when given more than one thread
+class KruskalGenerator implements MazeGenerator {
+  // The number of threads to generate with
+  int parallelism;
+
+  // Constructor
+  KruskalGenerator(int parallelism) {
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("Invalid parallelism: " + parallelism);
+    }
+
+    this.parallelism = parallelism;
+  }
+
+  public int id() {
+    return KRUSKAL;
+  }
+
+  public GridMaze generate(int width, int height, Random rdm) {
+    if (this.parallelism > 1) {
+      return GridMaze.boruvka(width, height, rdm, this.parallelism);
+    }
+
+    return GridMaze.kruskal(width, height, rdm);
+  }
+}
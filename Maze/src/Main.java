@@ -1,8 +1,36 @@
 
 
 public class Main {
-  public static void main(String[] args) {
+  // Opens the game, or with --batch makes a batch of mazes headlessly as
+  // described by BatchGenerator.USAGE
+  public static void main(String[] args) throws Exception {
+    // Letting JConsole watch where the time goes
+    MazeMetrics.register();
+
+    if (args.length > 0) {
+      BatchGenerator batch;
+
+      try {
+        batch = BatchGenerator.parse(args);
+      }
+      catch (IllegalArgumentException e) {
+        System.err.println(e.getMessage());
+        System.err.println(BatchGenerator.USAGE);
+        System.exit(2);
+        return;
+      }
+
+      long start = System.nanoTime();
+
+      batch.run();
+
+      System.out.printf("Wrote %d mazes to %s in %.2f s%n",
+              batch.count, batch.out, (System.nanoTime() - start) / 1e9);
+      System.out.print(MazeMetrics.GLOBAL.summary());
+      return;
+    }
+
     Maze maze = new Maze(40, 20);
     maze.makeGame();
   }
-}
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// To represent a maze read in place from a memory-mapped maze file. Opening
+// one only reads the header, and queries read the wall bits straight from
+// the mapping, so the operating system pages in only the parts of a large
+// maze that are used. The mapping is read-only and safe to query from many
+// threads at once
+class MappedMaze implements WallPlanes {
+  // The dimensions of this maze in cells
+  int width;
+  int height;
+
+  // The seed this maze was made from, and the id of the MazeGenerator
+  // that made it, as recorded in its file
+  long seed;
+  int generator;
+
+  // The east and south walls of each cell, packed 64 cells to a word
+  LongBuffer eastWalls;
+  LongBuffer southWalls;
+
+  // Constructor that maps the maze file at the given path
+  MappedMaze(Path file) throws IOException {
+    MappedByteBuffer mapped;
+
+    // The mapping stays valid after the channel is closed
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      if (channel.size() < MazeFile.HEADER_BYTES) {
+        throw new IOException("Not a maze file: " + file);
+      }
+
+      mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+
+    mapped.order(ByteOrder.LITTLE_ENDIAN);
+
+    if (mapped.getInt(0) != MazeFile.MAGIC) {
+      throw new IOException("Not a maze file: " + file);
+    }
+
+    if (mapped.getInt(4) != MazeFile.VERSION) {
+      throw new IOException("Unsupported maze file version " + mapped.getInt(4) + ": " + file);
+    }
+
+    this.width = mapped.getInt(8);
+    this.height = mapped.getInt(12);
+    this.seed = mapped.getLong(16);
+    this.generator = mapped.getInt(24);
+
+    if (this.width <= 0 || this.height <= 0
+            || (long) this.width * this.height > Integer.MAX_VALUE) {
+      throw new IOException("Invalid maze dimensions " + this.width + "x" + this.height
+              + ": " + file);
+    }
+
+    int words = MazeFile.planeWords((long) this.width * this.height);
+
+    if (mapped.capacity() != MazeFile.HEADER_BYTES + 16L * words) {
+      throw new IOException("Truncated maze file: " + file);
+    }
+
+    mapped.position(MazeFile.HEADER_BYTES);
+    this.eastWalls = mapped.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+    this.eastWalls.limit(words);
+
+    mapped.position(MazeFile.HEADER_BYTES + 8 * words);
+    this.southWalls = mapped.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+  }
+
+  // Returns the word of the east wall plane with the given index
+  public long eastWord(int word) {
+    return this.eastWalls.get(word);
+  }
+
+  // Returns the word of the south wall plane with the given index
+  public long southWord(int word) {
+    return this.southWalls.get(word);
+  }
+
+  // Returns the width of this maze in cells
+  public int getWidth() {
+    return this.width;
+  }
+
+  // Returns the height of this maze in cells
+  public int getHeight() {
+    return this.height;
+  }
+
+  // Copies this maze into memory as a GridMaze
+  GridMaze toGridMaze() {
+    GridMaze maze = new GridMaze(this.width, this.height);
+
+    this.eastWalls.duplicate().get(maze.eastWalls);
+    this.southWalls.duplicate().get(maze.southWalls);
+
+    return maze;
+  }
+}
\ No newline at end of file
@@ -1,7 +1,7 @@
 import javalib.impworld.*;
 import java.awt.Color;
 import javalib.worldimages.*;
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.LinkedList;
 import java.util.Random;
 
@@ -15,26 +15,70 @@ class Maze extends World {
   // The random number generator for this maze
   Random rdm;
 
-  // The graph representing the cells in this maze and the connections between them
-  Graph cells;
+  // The algorithm used to generate this maze
+  MazeGenerator generator;
+
+  // The cells in this maze and the passages between them
+  GridMaze cells;
 
   // The relative size of this maze image
-  final int TILE_SIZE = 20;
+  static final int TILE_SIZE = 20;
+
+  // The largest area, in pixels, the maze is shown in. A maze that does not
+  // fit is shown through a view that can be scrolled and zoomed, and only
+  // the cells in view are ever drawn
+  static final int MAX_VIEW_WIDTH = 1200;
+  static final int MAX_VIEW_HEIGHT = 800;
+
+  // The sizes, in pixels, a cell can be drawn at, from nearest to furthest
+  static final int[] ZOOM_LEVELS = {TILE_SIZE, 10, 5, 2, 1};
+
+  // The smallest size, in pixels, at which the walls of a cell are drawn
+  // centred on its edges. Below it the walls take up the last column and row
+  // of pixels of each cell, and at a single pixel per cell there is no room
+  // for walls, so each cell is shaded by how many passages it has instead
+  static final int MIN_WALL_SIZE = 5;
+
+  // The largest maze, in cells, on which every search strategy is compared
+  // in the background when the maze is made. Beyond this the comparison
+  // would take too long to be ready while the maze is played
+  static final int MAX_COMPARED_CELLS = 1 << 16;
+
+  // The colours of the squares on the game board
+  final Color BACKGROUND_COLOR = Color.LIGHT_GRAY;
+  final Color END_COLOR = new Color(255, 0, 0, 200);
+  final Color VISITED_COLOR = new Color(100, 100, 255, 150);
+  final Color GOAL_VISITED_COLOR = new Color(255, 150, 50, 150);
+  final Color PATH_COLOR = new Color(50, 50, 200, 200);
+  final Color START_COLOR = new Color(50, 175, 50, 255);
+  final Color CURRENT_COLOR = new Color(150, 0, 150, 200);
+
+  // The shades of dead ends and of junctions when each cell is a single pixel
+  final Color DEAD_END_COLOR = Color.GRAY;
+  final Color JUNCTION_COLOR = new Color(230, 230, 230);
 
   // The current node being considered
   int current;
 
-  // The list of nodes that have already been visited
-  ArrayList<Integer> visited;
+  // The set of nodes that have already been visited
+  BitSet visited;
 
   // The path to the current node
   LinkedList<Integer> path;
 
-  // The list of nodes to be visited next
-  LinkedList<Integer> worklist;
+  // The set of nodes on the path to the current node
+  BitSet onPath;
+
+  // The search driving the algorithmic solve, or null when not solving algorithmically
+  MazeSolver solver;
 
-  // The list of paths to each corresponding node in the worklist
-  LinkedList<LinkedList<Integer>> paths;
+  // The last node of the path currently marked in onPath by the
+  // algorithmic solve, or -1 if none is marked
+  int pathEnd;
+
+  // The last node of the path back to the end of the maze currently marked
+  // in onPath by a bidirectional solve, or -1 if none is marked
+  int goalPathEnd;
 
   // The end of the maze has been found
   boolean solved;
@@ -43,20 +87,45 @@ class Maze extends World {
   boolean showVisited;
   boolean showPath;
 
-  // Whether the game is taking user input, using breadth-first search or depth-first search
+  // Whether the game is taking user input or being solved by the computer
   boolean manual;
   boolean algorithmic;
-  boolean breadthFirst;
 
   // The player's/computer's current score
   int score;
 
+  // When the last tick that moved the solve on started, as a System.nanoTime,
+  // or 0 once the frame showing it has been made
+  long tickStart;
+
+  // The comparison of every search strategy on this maze, running in the
+  // background, or null if this maze is too large to compare them on
+  SolverComparison comparison;
+
+  // Whether the panel has been drawn since the comparison finished
+  boolean comparisonShown;
+
+  // The index in ZOOM_LEVELS of the size the cells are drawn at, and that size
+  int zoomLevel;
+  int tileSize;
+
+  // The column and row of the top left cell in view, and the number of
+  // columns and rows in view
+  int viewColumn;
+  int viewRow;
+  int viewColumns;
+  int viewRows;
+
   // The dimensions of the elements of this game image
   int mazeWidth;
   int mazeHeight;
   int panelWidth;
   int panelHeight;
 
+  // The images the squares and the walls are painted into
+  CellRaster squaresRaster;
+  CellRaster wallsRaster;
+
   // Each of the different parts of this game image
   WorldImage squares;
   WorldImage walls;
@@ -70,6 +139,18 @@ class Maze extends World {
   // Constructor that creates a new maze of the given width and height
   // from a given random number generator
   Maze(int width, int height, Random rdm) {
+    this(width, height, rdm, 1);
+  }
+
+  // Constructor that creates a new maze of the given width and height from a
+  // given random number generator, generated using the given number of threads
+  Maze(int width, int height, Random rdm, int parallelism) {
+    this(width, height, rdm, new KruskalGenerator(parallelism));
+  }
+
+  // Constructor that creates a new maze of the given width and height from a
+  // given random number generator, generated by the given algorithm
+  Maze(int width, int height, Random rdm, MazeGenerator generator) {
     // Throw an exception if the maze dimensions are too small
     if (width <= 0 || height <= 0) {
       throw new IllegalArgumentException(
@@ -79,29 +160,46 @@ class Maze extends World {
     this.width = width;
     this.height = height;
     this.rdm = rdm;
+    this.generator = generator;
 
-    this.mazeWidth = this.width * TILE_SIZE + 6;
-    this.mazeHeight = this.height * TILE_SIZE + 6;
-    this.panelWidth = this.height * TILE_SIZE * 3 / 2 + 6;
-    this.panelHeight = this.height * TILE_SIZE / 4 + 6;
+    this.mazeWidth = (int) Math.min((long) this.width * TILE_SIZE, MAX_VIEW_WIDTH) + 6;
+    this.mazeHeight = (int) Math.min((long) this.height * TILE_SIZE, MAX_VIEW_HEIGHT) + 6;
+    this.panelWidth = (this.mazeHeight - 6) * 3 / 2 + 6;
+    this.panelHeight = (this.mazeHeight - 6) / 4 + 6;
+
+    this.zoomTo(0);
 
     this.makeMaze();
   }
 
-  // Creates the graph of cells that represents this maze
+  // Generates the cells of a new maze and resets the game to play it
   void makeMaze() {
-    Graph mazeGraph = new Graph(width, height, rdm);
+    long start = System.nanoTime();
 
-    mazeGraph.kruskal();
+    this.cells = this.generator.generate(width, height, rdm);
+    MazeMetrics.GLOBAL.generation.recordSince(start);
 
-    this.cells = mazeGraph;
+    // Giving up comparing the search strategies on the maze being replaced
+    if (this.comparison != null) {
+      this.comparison.cancel();
+    }
+
+    if (this.width * this.height <= MAX_COMPARED_CELLS) {
+      this.comparison = SolverComparison.start(this.cells);
+    }
+    else {
+      this.comparison = null;
+    }
+    this.comparisonShown = false;
 
     this.current = 0;
-    this.visited = new ArrayList<Integer>();
+    this.visited = new BitSet(this.width * this.height);
     this.path = new LinkedList<Integer>();
+    this.onPath = new BitSet(this.width * this.height);
 
-    this.worklist = new LinkedList<Integer>();
-    this.paths = new LinkedList<LinkedList<Integer>>();
+    this.solver = null;
+    this.pathEnd = -1;
+    this.goalPathEnd = -1;
 
     this.solved = false;
 
@@ -120,11 +218,13 @@ class Maze extends World {
   // Resets the current maze to its unsolved state
   void resetMaze() {
     this.current = 0;
-    this.visited = new ArrayList<Integer>();
+    this.visited = new BitSet(this.width * this.height);
     this.path = new LinkedList<Integer>();
+    this.onPath = new BitSet(this.width * this.height);
 
-    this.worklist = new LinkedList<Integer>();
-    this.paths = new LinkedList<LinkedList<Integer>>();
+    this.solver = null;
+    this.pathEnd = -1;
+    this.goalPathEnd = -1;
 
     this.solved = false;
 
@@ -152,166 +252,234 @@ class Maze extends World {
             Math.max(this.mazeWidth, this.panelWidth),
             this.mazeHeight + this.panelHeight);
     scene.placeImageXY(this.squares,
-            Math.max((this.panelWidth - this.mazeWidth) / 2, 0), 0);
-    scene.placeImageXY(this.walls,
-            Math.max((this.panelWidth - this.mazeWidth) / 2, 0), 0);
+            Math.max((this.panelWidth - this.mazeWidth) / 2, 0) + this.mazeWidth / 2,
+            this.mazeHeight / 2);
+
+    if (this.tileSize > 1) {
+      scene.placeImageXY(this.walls,
+              Math.max((this.panelWidth - this.mazeWidth) / 2, 0) + this.mazeWidth / 2,
+              this.mazeHeight / 2);
+    }
+
     scene.placeImageXY(this.panel,
             Math.max(this.mazeWidth, this.panelWidth) / 2,
             this.mazeHeight + this.panelHeight);
+
+    if (this.tickStart != 0) {
+      MazeMetrics.GLOBAL.tickToFrame.recordSince(this.tickStart);
+      this.tickStart = 0;
+    }
+
     return scene;
   }
 
-  // Draws the walls of this maze
+  // Draws the walls of the cells in view, unless they are too small to show them
   WorldImage drawWalls() {
-    WorldImage walls = new RectangleImage(
-            this.mazeWidth,
-            this.mazeHeight,
-            OutlineMode.SOLID,
-            new Color(0, 0, 0, 0));
-
-    WorldImage vertWall = new RectangleImage(
-            2,
-            TILE_SIZE,
-            OutlineMode.SOLID,
-            Color.DARK_GRAY);
-
-    vertWall = vertWall.movePinhole(0, - TILE_SIZE / 2);
-
-    WorldImage horzWall = new RectangleImage(
-            TILE_SIZE,
-            2,
-            OutlineMode.SOLID,
-            Color.DARK_GRAY);
-
-    horzWall = horzWall.movePinhole(- TILE_SIZE / 2, 0);
-
-    walls = walls.movePinhole(
-            - this.width * TILE_SIZE / 2,
-            - this.height * TILE_SIZE / 2);
-
-    for (int i = 0; i < this.width * this.height; i++) {
-      // Drawing a vertical wall
-      if (i % this.width != 0 && !this.cells.edgeBetween(i - 1, i)) {
-        walls = new OverlayImage(vertWall, walls);
-      }
-
-      // Drawing a horizontal wall
-      if (i / this.width != 0 && !this.cells.edgeBetween(i - this.width, i)) {
-        walls = new OverlayImage(horzWall, walls);
-      }
-
-      // Movine the pinhole to the next position
-      if ((i + 1) % this.width != 0) {
-        walls = walls.movePinhole(TILE_SIZE, 0);
+    long start = System.nanoTime();
+
+    this.wallsRaster.fill(new Color(0, 0, 0, 0));
+
+    if (this.tileSize >= MIN_WALL_SIZE) {
+      // The walls are a tenth of a cell thick, centred on the cell's edge
+      int thickness = Math.max(this.tileSize / 10, 1);
+
+      for (int row = this.viewRow; row < this.viewRow + this.viewRows; row++) {
+        for (int column = this.viewColumn; column < this.viewColumn + this.viewColumns; column++) {
+          int passages = this.cells.passages(row * this.width + column);
+          int x = (column - this.viewColumn) * this.tileSize;
+          int y = (row - this.viewRow) * this.tileSize;
+
+          // Drawing a vertical wall
+          if (column != 0 && (passages & GridMaze.WEST) == 0) {
+            this.wallsRaster.fillRect(x - thickness / 2, y, thickness, this.tileSize,
+                    Color.DARK_GRAY);
+          }
+
+          // Drawing a horizontal wall
+          if (row != 0 && (passages & GridMaze.NORTH) == 0) {
+            this.wallsRaster.fillRect(x, y - thickness / 2, this.tileSize, thickness,
+                    Color.DARK_GRAY);
+          }
+        }
       }
-      else {
-        walls = walls.movePinhole(- (this.width - 1) * TILE_SIZE, TILE_SIZE);
+    }
+    else if (this.tileSize > 1) {
+      int edge = this.tileSize - 1;
+
+      for (int row = this.viewRow; row < this.viewRow + this.viewRows; row++) {
+        for (int column = this.viewColumn; column < this.viewColumn + this.viewColumns; column++) {
+          int passages = this.cells.passages(row * this.width + column);
+          int x = (column - this.viewColumn) * this.tileSize;
+          int y = (row - this.viewRow) * this.tileSize;
+
+          // Drawing the east and south walls in the cell's last column and row
+          // of pixels, with the corner between them always filled
+          if ((passages & GridMaze.EAST) == 0) {
+            this.wallsRaster.fillRect(x + edge, y, 1, edge, Color.DARK_GRAY);
+          }
+
+          if ((passages & GridMaze.SOUTH) == 0) {
+            this.wallsRaster.fillRect(x, y + edge, edge, 1, Color.DARK_GRAY);
+          }
+
+          this.wallsRaster.fillRect(x + edge, y + edge, 1, 1, Color.DARK_GRAY);
+        }
       }
     }
 
-    walls = walls.movePinhole(-3, - (this.mazeHeight - 3));
+    MazeMetrics.GLOBAL.drawWalls.recordSince(start);
 
-    return walls;
+    return this.wallsRaster.image;
   }
 
-  // Draws the different squares present on the game board
+  // Draws the different squares in view on the game board
   // on top of the board's background image
   WorldImage drawSquares() {
-    // Drawing the background
-    WorldImage maze = new OverlayImage(
-            new RectangleImage(
-                    this.mazeWidth - 6,
-                    this.mazeHeight - 6,
-                    OutlineMode.SOLID,
-                    Color.LIGHT_GRAY),
-            new RectangleImage(
-                    this.mazeWidth,
-                    this.mazeHeight,
-                    OutlineMode.SOLID,
-                    Color.DARK_GRAY));
+    long start = System.nanoTime();
 
-    maze = maze.movePinhole(
-            - (this.mazeWidth - 6) / 2,
-            - (this.mazeHeight - 6) / 2);
+    if (this.showPath && this.algorithmic) {
+      this.tracePath();
+    }
 
-    for (int i = 0; i < this.width * this.height; i++) {
-      // Drawing the red end square
-      if (i == this.width * this.height - 1) {
-        WorldImage endSquare = new RectangleImage(
-                TILE_SIZE,
-                TILE_SIZE,
-                OutlineMode.SOLID,
-                new Color(255, 0, 0, 200));
+    // Drawing the background
+    this.squaresRaster.fill(Color.DARK_GRAY);
+    this.squaresRaster.fillRect(0, 0, this.viewColumns * this.tileSize,
+            this.viewRows * this.tileSize, BACKGROUND_COLOR);
 
-        endSquare = endSquare.movePinhole(- TILE_SIZE / 2, - TILE_SIZE / 2);
+    for (int row = this.viewRow; row < this.viewRow + this.viewRows; row++) {
+      for (int column = this.viewColumn; column < this.viewColumn + this.viewColumns; column++) {
+        Color color = this.squareColor(row * this.width + column);
 
-        maze = new OverlayImage(endSquare, maze);
+        if (color != BACKGROUND_COLOR) {
+          this.squaresRaster.fillTile(column - this.viewColumn, row - this.viewRow, color);
+        }
       }
+    }
 
-      // Drawing the visited squares
-      if (this.showVisited && this.visited.contains(i)) {
-        WorldImage visitedSquare = new RectangleImage(
-                TILE_SIZE,
-                TILE_SIZE,
-                OutlineMode.SOLID,
-                new Color(100, 100, 255, 150));
+    MazeMetrics.GLOBAL.drawSquares.recordSince(start);
 
-        visitedSquare = visitedSquare.movePinhole(- TILE_SIZE / 2, - TILE_SIZE / 2);
+    return this.squaresRaster.image;
+  }
 
-        maze = new OverlayImage(visitedSquare, maze);
-      }
+  // Repaints the square indexed at the given integer after its state has
+  // changed, if it is in view
+  void redrawSquare(int i) {
+    if (this.inView(i)) {
+      this.squaresRaster.fillTile(i % this.width - this.viewColumn,
+              i / this.width - this.viewRow, this.squareColor(i));
+    }
+  }
 
-      // Drawing the path to the current square
-      if (this.showPath && this.path.contains(i)) {
-        WorldImage pathSquare = new RectangleImage(
-                TILE_SIZE,
-                TILE_SIZE,
-                OutlineMode.SOLID,
-                new Color(50, 50, 200, 200));
+  // Determines whether the cell indexed at the given integer is in view
+  boolean inView(int i) {
+    int column = i % this.width;
+    int row = i / this.width;
 
-        pathSquare = pathSquare.movePinhole(- TILE_SIZE / 2, - TILE_SIZE / 2);
+    return column >= this.viewColumn && column < this.viewColumn + this.viewColumns
+            && row >= this.viewRow && row < this.viewRow + this.viewRows;
+  }
 
-        maze = new OverlayImage(pathSquare, maze);
-      }
+  // Draws the cells at the size at the given index in ZOOM_LEVELS, keeping
+  // the view centred on the same cell. The squares and walls need drawing
+  // again afterwards
+  void zoomTo(int level) {
+    int centreColumn = this.viewColumn + this.viewColumns / 2;
+    int centreRow = this.viewRow + this.viewRows / 2;
 
-      // Drawing the green start square
-      if (i == 0) {
-        WorldImage startSquare = new RectangleImage(
-                TILE_SIZE,
-                TILE_SIZE,
-                OutlineMode.SOLID,
-                new Color(50, 175, 50, 255));
+    this.zoomLevel = level;
+    this.tileSize = ZOOM_LEVELS[level];
+    this.viewColumns = Math.min(this.width, (this.mazeWidth - 6) / this.tileSize);
+    this.viewRows = Math.min(this.height, (this.mazeHeight - 6) / this.tileSize);
 
-        startSquare = startSquare.movePinhole(- TILE_SIZE / 2, - TILE_SIZE / 2);
+    this.squaresRaster = new CellRaster(this.viewColumns, this.viewRows,
+            this.tileSize, 3, Color.DARK_GRAY);
+    this.wallsRaster = new CellRaster(this.viewColumns, this.viewRows,
+            this.tileSize, 3, new Color(0, 0, 0, 0));
 
-        maze = new OverlayImage(startSquare, maze);
-      }
+    this.scrollTo(centreColumn - this.viewColumns / 2, centreRow - this.viewRows / 2);
+  }
 
-      // Drawing the current square
-      if (i == current && (this.manual || this.algorithmic)) {
-        WorldImage currentSquare = new RectangleImage(
-                TILE_SIZE,
-                TILE_SIZE,
-                OutlineMode.SOLID,
-                new Color(150, 0, 150, 200));
+  // Moves the view to have the given column and row in its top left corner,
+  // or as near as it can get while staying inside the maze. The squares and
+  // walls need drawing again afterwards
+  void scrollTo(int column, int row) {
+    this.viewColumn = Math.max(0, Math.min(column, this.width - this.viewColumns));
+    this.viewRow = Math.max(0, Math.min(row, this.height - this.viewRows));
+  }
 
-        currentSquare = currentSquare.movePinhole(- TILE_SIZE / 2, - TILE_SIZE / 2);
+  // Moves the view by the given number of columns and rows, redrawing it if
+  // it moved
+  void scrollBy(int columns, int rows) {
+    int column = this.viewColumn;
+    int row = this.viewRow;
 
-        maze = new OverlayImage(currentSquare, maze);
-      }
+    this.scrollTo(column + columns, row + rows);
 
-      // Moving the pinhole forward
-      if ((i + 1) % this.width != 0) {
-        maze = maze.movePinhole(TILE_SIZE, 0);
+    if (this.viewColumn != column || this.viewRow != row) {
+      this.squares = this.drawSquares();
+      this.walls = this.drawWalls();
+    }
+  }
+
+  // Centres the view on the cell indexed at the given integer if it has
+  // gone out of view
+  void keepInView(int i) {
+    if (!this.inView(i)) {
+      this.scrollBy(i % this.width - this.viewColumns / 2 - this.viewColumn,
+              i / this.width - this.viewRows / 2 - this.viewRow);
+    }
+  }
+
+  // Returns the colour of the square indexed at the given integer, layering
+  // the end, visited, path, start and current squares in that order
+  Color squareColor(int i) {
+    Color color = this.cellShade(i);
+
+    if (i == this.width * this.height - 1) {
+      color = CellRaster.over(END_COLOR, color);
+    }
+
+    if (this.showVisited && this.visited.get(i)) {
+      if (this.solver != null && this.solver.reachedFromGoal(i)) {
+        color = CellRaster.over(GOAL_VISITED_COLOR, color);
       }
       else {
-        maze = maze.movePinhole(- (this.width - 1) * TILE_SIZE, TILE_SIZE);
+        color = CellRaster.over(VISITED_COLOR, color);
       }
     }
 
-    maze = maze.movePinhole(-3, - (this.mazeHeight - 3));
+    if (this.showPath && this.onPath.get(i)) {
+      color = CellRaster.over(PATH_COLOR, color);
+    }
+
+    if (i == 0) {
+      color = CellRaster.over(START_COLOR, color);
+    }
+
+    if (i == this.current && (this.manual || this.algorithmic)) {
+      color = CellRaster.over(CURRENT_COLOR, color);
+    }
 
-    return maze;
+    return color;
+  }
+
+  // Returns the colour of the square indexed at the given integer before
+  // anything is layered over it. When each cell is a single pixel the walls
+  // cannot be drawn, so dead ends are darker and junctions lighter to show
+  // the shape of the maze
+  Color cellShade(int i) {
+    if (this.tileSize == 1) {
+      int passages = Integer.bitCount(this.cells.passages(i));
+
+      if (passages <= 1) {
+        return DEAD_END_COLOR;
+      }
+      else if (passages >= 3) {
+        return JUNCTION_COLOR;
+      }
+    }
+
+    return BACKGROUND_COLOR;
   }
 
   // Drawing the panel with the relevant information for the user to play the game
@@ -340,29 +508,40 @@ class Maze extends World {
                       size / 4,
                       Color.BLACK),
               - size / 10,
-              size / 3,
+              size * 3 / 8,
               panel);
 
       panel = new OverlayOffsetAlign(
               AlignModeX.LEFT,
               AlignModeY.MIDDLE,
               new TextImage(
-                      "2: Breadth-first Algorithmic Solve",
+                      "2: Breadth-first Solve",
                       size / 4,
                       Color.BLACK),
               - size / 10,
-              0,
+              size / 8,
               panel);
 
       panel = new OverlayOffsetAlign(
               AlignModeX.LEFT,
               AlignModeY.MIDDLE,
               new TextImage(
-                      "3: Depth-first Algorithmic Solve",
+                      "3: Depth-first Solve",
                       size / 4,
                       Color.BLACK),
               - size / 10,
-              - size / 3,
+              - size / 8,
+              panel);
+
+      panel = new OverlayOffsetAlign(
+              AlignModeX.LEFT,
+              AlignModeY.MIDDLE,
+              new TextImage(
+                      "4: Bidirectional Solve",
+                      size / 4,
+                      Color.BLACK),
+              - size / 10,
+              - size * 3 / 8,
               panel);
 
       panel = new OverlayOffsetAlign(
@@ -373,7 +552,40 @@ class Maze extends World {
                       size / 4,
                       Color.BLACK),
               size / 6,
-              size / 3,
+              size * 3 / 8,
+              panel);
+
+      panel = new OverlayOffsetAlign(
+              AlignModeX.RIGHT,
+              AlignModeY.MIDDLE,
+              new TextImage(
+                      "5: A* Solve",
+                      size / 4,
+                      Color.BLACK),
+              size / 6,
+              size / 8,
+              panel);
+
+      panel = new OverlayOffsetAlign(
+              AlignModeX.RIGHT,
+              AlignModeY.MIDDLE,
+              new TextImage(
+                      "6: Greedy Solve",
+                      size / 4,
+                      Color.BLACK),
+              size / 6,
+              - size / 8,
+              panel);
+
+      panel = new OverlayOffsetAlign(
+              AlignModeX.RIGHT,
+              AlignModeY.MIDDLE,
+              new TextImage(
+                      "wasd +/-: View",
+                      size / 4,
+                      Color.BLACK),
+              size / 6,
+              - size * 3 / 8,
               panel);
     }
     // The panel for manual user entry
@@ -526,6 +738,21 @@ class Maze extends World {
               panel);
     }
 
+    // Comparing every search strategy on this maze while it is solved by one
+    if (this.algorithmic && this.comparison != null && this.comparison.done) {
+      this.comparisonShown = true;
+      panel = new OverlayOffsetAlign(
+              AlignModeX.CENTER,
+              AlignModeY.MIDDLE,
+              new TextImage(
+                      this.comparison.summary(),
+                      size / 8,
+                      Color.BLACK),
+              0,
+              - size * 7 / 16,
+              panel);
+    }
+
     panel = panel.movePinhole(0, size / 2 + 3);
 
     return panel;
@@ -538,7 +765,6 @@ class Maze extends World {
       // Press 1 to manually solve the maze
       if (key.equals("1")) {
         this.manual = true;
-        this.breadthFirst = false;
 
         this.showVisited = true;
         this.showPath = false;
@@ -549,32 +775,28 @@ class Maze extends World {
 
       // Press 2 to have the computer solve the maze via breadth-first search
       if (key.equals("2")) {
-        this.algorithmic = true;
-        this.breadthFirst = true;
-
-        this.showVisited = true;
-        this.showPath = true;
-
-        this.worklist.add(this.current);
-        this.paths.add(new LinkedList<Integer>());
-
-        this.squares = this.drawSquares();
-        this.panel = this.drawPanel();
+        this.startSolver(SearchStrategy.BREADTH_FIRST);
       }
 
       // Press 3 to have the computer solve the maze via depth-first search
       if (key.equals("3")) {
-        this.algorithmic = true;
-        this.breadthFirst = false;
+        this.startSolver(SearchStrategy.DEPTH_FIRST);
+      }
 
-        this.showVisited = true;
-        this.showPath = true;
+      // Press 4 to have the computer solve the maze via breadth-first search
+      // from both ends at once
+      if (key.equals("4")) {
+        this.startSolver(SearchStrategy.BIDIRECTIONAL);
+      }
 
-        this.worklist.push(this.current);
-        this.paths.push(new LinkedList<Integer>());
+      // Press 5 to have the computer solve the maze via A* search
+      if (key.equals("5")) {
+        this.startSolver(SearchStrategy.A_STAR);
+      }
 
-        this.squares = this.drawSquares();
-        this.panel = this.drawPanel();
+      // Press 6 to have the computer solve the maze via greedy best-first search
+      if (key.equals("6")) {
+        this.startSolver(SearchStrategy.GREEDY_BEST_FIRST);
       }
     }
 
@@ -617,6 +839,38 @@ class Maze extends World {
       }
     }
 
+    // Use w, a, s and d to scroll the view by half its size
+    if (key.equals("w")) {
+      this.scrollBy(0, - Math.max(this.viewRows / 2, 1));
+    }
+
+    if (key.equals("s")) {
+      this.scrollBy(0, Math.max(this.viewRows / 2, 1));
+    }
+
+    if (key.equals("a")) {
+      this.scrollBy(- Math.max(this.viewColumns / 2, 1), 0);
+    }
+
+    if (key.equals("d")) {
+      this.scrollBy(Math.max(this.viewColumns / 2, 1), 0);
+    }
+
+    // Press + to zoom in and - to zoom out
+    if ((key.equals("+") || key.equals("=")) && this.zoomLevel > 0) {
+      this.zoomTo(this.zoomLevel - 1);
+
+      this.squares = this.drawSquares();
+      this.walls = this.drawWalls();
+    }
+
+    if (key.equals("-") && this.zoomLevel < ZOOM_LEVELS.length - 1) {
+      this.zoomTo(this.zoomLevel + 1);
+
+      this.squares = this.drawSquares();
+      this.walls = this.drawWalls();
+    }
+
     // Press n to create a new maze
     if (key.equals("n")) {
       this.makeMaze();
@@ -628,116 +882,91 @@ class Maze extends World {
     }
   }
 
-  // Animate the algorithmic solving of the maze
-  public void onTick() {
-    if (this.algorithmic && !this.solved) {
-      if (this.breadthFirst) {
-        this.traverse(this.worklist.remove());
-      }
-      else {
-        this.traverse(this.worklist.pop());
-      }
-    }
-  }
+  // Starts the computer solving the maze with the given search strategy
+  void startSolver(SearchStrategy strategy) {
+    this.algorithmic = true;
 
-  // Traverse the cell of the maze indexed at the given integer
-  void traverse(int next) {
-    // If the maze is being solved manually
-    if (this.manual) {
-      if (this.cells.edgeBetween(this.current, next)) {
-        if (this.visited.contains(next)) {
-          this.visited.remove(Integer.valueOf(next));
-        }
+    this.showVisited = true;
+    this.showPath = true;
 
-        this.visited.add(this.current);
+    this.solver = MazeSolver.create(strategy, this.cells,
+            this.current, this.width * this.height - 1);
+    this.visited = this.solver.visited;
 
-        if (!this.path.contains(next)) {
-          this.path.push(this.current);
-        }
-        else {
-          this.path.pop();
-        }
+    this.squares = this.drawSquares();
+    this.panel = this.drawPanel();
+  }
 
-        this.current = next;
-        this.score--;
+  // Animate the algorithmic solving of the maze
+  public void onTick() {
+    if (this.algorithmic && !this.solved && this.solver.hasNextStep()) {
+      this.tickStart = System.nanoTime();
 
-        this.squares = this.drawSquares();
-        this.panel = this.drawPanel();
-      }
-    }
-    // If the maze is being solved by breadth-first search
-    else if (this.breadthFirst) {
-      LinkedList<Integer> currentPath = this.paths.remove();
-      this.path = currentPath;
-      currentPath.add(next);
+      int previous = this.current;
+      long bytes = MazeMetrics.allocatedBytes();
 
-      this.visited.add(this.current);
+      this.current = this.solver.step();
 
-      if (this.cells.edgeBetween(next, next + 1)
-              && !this.visited.contains(next + 1)) {
-        this.worklist.add(next + 1);
-        this.paths.add(new LinkedList<Integer>(currentPath));
-      }
-      if (this.cells.edgeBetween(next, next + this.width)
-              && !this.visited.contains(next + this.width)) {
-        this.worklist.add(next + this.width);
-        this.paths.add(new LinkedList<Integer>(currentPath));
+      // Counting only what the search itself allocates, not the drawing
+      if (bytes >= 0) {
+        this.solver.allocatedBytes = Math.max(this.solver.allocatedBytes, 0)
+                + MazeMetrics.allocatedBytes() - bytes;
       }
-      if (this.cells.edgeBetween(next, next - 1)
-              && !this.visited.contains(next - 1)) {
-        this.worklist.add(next - 1);
-        this.paths.add(new LinkedList<Integer>(currentPath));
-      }
-      if (this.cells.edgeBetween(next, next - this.width)
-              && !this.visited.contains(next - this.width)) {
-        this.worklist.add(next - this.width);
-        this.paths.add(new LinkedList<Integer>(currentPath));
-      }
-
-      this.current = next;
       this.score--;
 
-      this.squares = this.drawSquares();
+      this.tracePath();
+      this.redrawSquare(previous);
+      this.redrawSquare(this.current);
+      this.panel = this.drawPanel();
+
+      this.endIfSolved();
+    }
+    // Showing the comparison of the search strategies once it is ready
+    else if (this.algorithmic && !this.comparisonShown
+            && this.comparison != null && this.comparison.done) {
       this.panel = this.drawPanel();
     }
-    // If the maze is being solved by depth-first search
-    else {
-      LinkedList<Integer> currentPath = this.paths.pop();
-      this.path = currentPath;
-      currentPath.add(next);
+  }
 
-      this.visited.add(this.current);
+  // Moves the player to the cell of the maze indexed at the given integer,
+  // if there is a passage to it from the current cell
+  void traverse(int next) {
+    if (this.cells.edgeBetween(this.current, next)) {
+      this.visited.clear(next);
+      this.visited.set(this.current);
 
-      if (this.cells.edgeBetween(next, next - this.width)
-              && !this.visited.contains(next - this.width)) {
-        this.worklist.push(next - this.width);
-        this.paths.push(new LinkedList<Integer>(currentPath));
-      }
-      if (this.cells.edgeBetween(next, next - 1)
-              && !this.visited.contains(next - 1)) {
-        this.worklist.push(next - 1);
-        this.paths.push(new LinkedList<Integer>(currentPath));
-      }
-      if (this.cells.edgeBetween(next, next + this.width)
-              && !this.visited.contains(next + this.width)) {
-        this.worklist.push(next + this.width);
-        this.paths.push(new LinkedList<Integer>(currentPath));
+      if (!this.onPath.get(next)) {
+        this.path.push(this.current);
+        this.onPath.set(this.current);
       }
-      if (this.cells.edgeBetween(next, next + 1)
-              && !this.visited.contains(next + 1)) {
-        this.worklist.push(next + 1);
-        this.paths.push(new LinkedList<Integer>(currentPath));
+      else {
+        this.onPath.clear(this.path.pop());
       }
 
+      int previous = this.current;
+
       this.current = next;
       this.score--;
 
-      this.squares = this.drawSquares();
+      this.redrawSquare(previous);
+      this.redrawSquare(next);
+      this.keepInView(next);
       this.panel = this.drawPanel();
+
+      this.endIfSolved();
     }
+  }
+
+  // Ends the game if the maze is solved
+  void endIfSolved() {
+    // A bidirectional solve also expands the end itself, from the other side,
+    // so the solver decides when an algorithmic solve is done
+    if (this.algorithmic ? this.solver.solved : this.current == this.width * this.height - 1) {
+      if (this.algorithmic) {
+        this.path = this.solution();
+        MazeMetrics.GLOBAL.recordSearch(this.solver);
+      }
 
-    // Ends the game if the maze is solved
-    if (this.current == this.width * this.height - 1) {
       this.solved = true;
       this.showVisited = true;
       this.showPath = true;
@@ -746,6 +975,48 @@ class Maze extends World {
       this.panel = this.drawPanel();
     }
   }
-}
 
+  // Marks the path the algorithmic solve is following in onPath, from the
+  // start and, for a bidirectional solve, back from the end of the maze
+  void tracePath() {
+    this.pathEnd = this.retrace(this.solver.forwardEnd(), this.pathEnd);
+    this.goalPathEnd = this.retrace(this.solver.backwardEnd(), this.goalPathEnd);
+  }
+
+  // Marks the path to the given node in onPath by following the parent of
+  // each node, only revisiting the part that differs from the path that
+  // ended at the given old node, and returns the new end. Either may be -1
+  // for no path
+  int retrace(int end, int oldEnd) {
+    int cell = end;
+
+    // Marking the new part of the path, up to where it meets the old path
+    while (cell != -1 && !this.onPath.get(cell)) {
+      this.onPath.set(cell);
+      this.redrawSquare(cell);
+      cell = this.solver.parent[cell];
+    }
+
+    // Unmarking the part of the old path that is not shared with the new one
+    int stale = oldEnd;
+
+    while (stale != cell) {
+      this.onPath.clear(stale);
+      this.redrawSquare(stale);
+      stale = this.solver.parent[stale];
+    }
 
+    return end;
+  }
+
+  // Returns the path from the start to the end found by the algorithmic solve
+  LinkedList<Integer> solution() {
+    LinkedList<Integer> result = new LinkedList<Integer>();
+
+    for (int i : this.solver.path()) {
+      result.add(i);
+    }
+
+    return result;
+  }
+}
\ No newline at end of file
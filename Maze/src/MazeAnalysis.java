@@ -0,0 +1,86 @@
+// To represent the measurements used to rate how hard a finished maze is,
+// all taken in linear time with breadth-first searches over primitive
+// arrays, so that mazes of any size can be analysed without recursion or
+// boxing. Cells that cannot be reached from the first cell are left out of
+// the distances, the diameter and the histogram
+class MazeAnalysis {
+  // The number of moves from the first cell to each cell, or -1 for the
+  // cells that cannot be reached from it
+  int[] distances;
+
+  // The number of moves from the first cell to the last, or -1 if the last
+  // cannot be reached
+  int solutionLength;
+
+  // The number of cells with exactly one passage. A maze of a single cell
+  // has none, as its cell has no passages at all
+  int deadEnds;
+
+  // The number of cells with three or four passages
+  int junctions;
+
+  // The number of cells that cannot be reached from the first cell
+  int unreachable;
+
+  // The number of moves on the longest path through the maze, and the cells
+  // at either end of it. Exact for perfect mazes, and a lower bound for a
+  // maze with loops
+  int diameter;
+  int diameterStart;
+  int diameterEnd;
+
+  // The number of cells at each distance from the first cell
+  int[] histogram;
+
+  // Constructor that analyses the given maze on the calling thread
+  MazeAnalysis(MazeLayout maze) {
+    this(maze, 1);
+  }
+
+  // Constructor that analyses the given maze, running its searches on the
+  // given number of threads
+  MazeAnalysis(MazeLayout maze, int parallelism) {
+    ParallelBfs search = new ParallelBfs(parallelism);
+    int cells = maze.getWidth() * maze.getHeight();
+
+    this.distances = search.distances(maze, 0);
+    this.solutionLength = this.distances[cells - 1];
+
+    // Counting the passages out of each cell, and how far away each cell is
+    int furthest = 0;
+
+    for (int i = 0; i < cells; i++) {
+      int degree = Integer.bitCount(maze.passages(i));
+
+      if (degree == 1) {
+        this.deadEnds++;
+      }
+      else if (degree >= 3) {
+        this.junctions++;
+      }
+
+      if (this.distances[i] == -1) {
+        this.unreachable++;
+      }
+      else if (this.distances[i] > this.distances[furthest]) {
+        furthest = i;
+      }
+    }
+
+    this.histogram = new int[this.distances[furthest] + 1];
+
+    for (int distance : this.distances) {
+      if (distance != -1) {
+        this.histogram[distance]++;
+      }
+    }
+
+    // In a tree the cell furthest from any cell is an end of a longest path,
+    // so a second search from it finds the other end
+    int[] fromFurthest = search.distances(maze, furthest);
+
+    this.diameterStart = furthest;
+    this.diameterEnd = ParallelBfs.farthest(fromFurthest);
+    this.diameter = fromFurthest[this.diameterEnd];
+  }
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Reads and writes mazes in a packed binary file. The file is a 32 byte
+// header followed by the east wall plane and then the south wall plane,
+// each one bit per cell packed 64 cells to a little-endian word exactly as
+// in GridMaze, so a file can be mapped and queried in place. The header is:
+//
+//   offset  0  int   MAGIC
+//   offset  4  int   VERSION
+//   offset  8  int   width in cells
+//   offset 12  int   height in cells
+//   offset 16  long  seed the maze was made from
+//   offset 24  int   MazeGenerator id of the algorithm that made it
+//   offset 28  int   reserved, 0
+class MazeFile {
+  // The first four bytes of every maze file, "MAZE" in ASCII
+  static final int MAGIC = 0x4D415A45;
+  // The version of the format written by this class
+  static final int VERSION = 1;
+  // The number of bytes before the wall planes
+  static final int HEADER_BYTES = 32;
+  // The number of bytes written to the file at a time
+  static final int BUFFER_BYTES = 1 << 20;
+
+  // Writes the given maze to the given file, recording the seed and the id
+  // of the generator it was made with
+  static void save(GridMaze maze, long seed, int generator, Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+      ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+      buffer.putInt(MAGIC);
+      buffer.putInt(VERSION);
+      buffer.putInt(maze.width);
+      buffer.putInt(maze.height);
+      buffer.putLong(seed);
+      buffer.putInt(generator);
+      buffer.putInt(0);
+
+      for (long[] plane : new long[][] {maze.eastWalls, maze.southWalls}) {
+        for (long word : plane) {
+          if (!buffer.hasRemaining()) {
+            write(channel, buffer);
+          }
+
+          buffer.putLong(word);
+        }
+      }
+
+      write(channel, buffer);
+    }
+  }
+
+  // Writes out everything put in the given buffer and empties it
+  static void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+    buffer.flip();
+
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+
+    buffer.clear();
+  }
+
+  // Maps the maze in the given file into memory without reading it
+  static MappedMaze open(Path file) throws IOException {
+    return new MappedMaze(file);
+  }
+
+  // Reads the maze in the given file whole into a GridMaze
+  static GridMaze load(Path file) throws IOException {
+    return open(file).toGridMaze();
+  }
+
+  // Returns the number of words in each wall plane of a maze with the given
+  // number of cells
+  static int planeWords(long cells) {
+    return (int) ((cells + 63) >>> 6);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+import java.util.Random;
+
+// To represent an algorithm that makes a random perfect maze, in which every
+// cell can be reached from every other by exactly one path
+interface MazeGenerator {
+  // The ids recorded in a maze file for the algorithm that made the maze.
+  // Kruskal's and Boruvka's algorithms make the same maze, so share an id
+  int UNKNOWN = 0;
+  int KRUSKAL = 1;
+  int BACKTRACKER = 2;
+  int WILSON = 3;
+  int PRIM = 4;
+  int BINARY_TREE = 5;
+  int SIDEWINDER = 6;
+  int ELLER = 7;
+
+  // Makes a maze of the given dimensions from the given random number generator
+  GridMaze generate(int width, int height, Random rdm);
+
+  // Returns the id of this algorithm, to be recorded with the mazes it makes
+  default int id() {
+    return UNKNOWN;
+  }
+}
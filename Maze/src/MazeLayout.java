@@ -0,0 +1,33 @@
+// To represent the layout of a finished rectangular maze, giving for each cell
+// (indexed in row-major order) the directions in which it has a passage
+interface MazeLayout {
+  // Returns the width of this maze in cells
+  int getWidth();
+
+  // Returns the height of this maze in cells
+  int getHeight();
+
+  // Returns the mask of GridMaze directions in which the cell indexed at
+  // the given integer has a passage to its neighbour
+  int passages(int cell);
+
+  // Returns the cell next to the cell indexed at the given integer in the
+  // given GridMaze direction, walls or not, or -1 if that is off the edge of
+  // this maze
+  default int adjacent(int cell, int direction) {
+    int width = this.getWidth();
+
+    switch (direction) {
+      case GridMaze.NORTH:
+        return cell >= width ? cell - width : -1;
+      case GridMaze.EAST:
+        return (cell + 1) % width != 0 ? cell + 1 : -1;
+      case GridMaze.SOUTH:
+        return cell < (this.getHeight() - 1) * width ? cell + width : -1;
+      case GridMaze.WEST:
+        return cell % width != 0 ? cell - 1 : -1;
+      default:
+        throw new IllegalArgumentException("Invalid direction: " + direction);
+    }
+  }
+}
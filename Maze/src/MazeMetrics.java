@@ -0,0 +1,210 @@
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+// Collects counters and timers from maze generation, solving and drawing.
+// Every part of the program records into the one GLOBAL registry, which can
+// be read directly, printed, or published over JMX for JConsole. Recording
+// is safe from many threads at once. Searches are recorded once when they
+// finish, so the search loops themselves only update plain fields
+class MazeMetrics implements MazeMetricsMBean {
+  // The name the registry is published under over JMX
+  static final String OBJECT_NAME = "Maze:type=MazeMetrics";
+
+  // The registry everything records into
+  static final MazeMetrics GLOBAL = new MazeMetrics();
+
+  // The number of searches recorded, and the cells they expanded and the
+  // passages out of those cells they examined
+  LongAdder searches;
+  LongAdder cellsExpanded;
+  LongAdder edgesExamined;
+
+  // The most cells any search has had waiting in its frontier at once
+  AtomicLong frontierHighWater;
+
+  // The bytes allocated by the search steps that were measured, and the
+  // number of steps measured
+  LongAdder allocatedBytes;
+  LongAdder measuredSteps;
+
+  // The time taken to make a whole maze, and by Kruskal's algorithm alone
+  MetricTimer generation;
+  MetricTimer kruskal;
+
+  // The time taken to draw the squares and the walls of the game
+  MetricTimer drawSquares;
+  MetricTimer drawWalls;
+
+  // The time from the start of a tick to the end of the frame that shows it
+  MetricTimer tickToFrame;
+
+  // Constructor
+  MazeMetrics() {
+    this.searches = new LongAdder();
+    this.cellsExpanded = new LongAdder();
+    this.edgesExamined = new LongAdder();
+    this.frontierHighWater = new AtomicLong();
+    this.allocatedBytes = new LongAdder();
+    this.measuredSteps = new LongAdder();
+
+    this.generation = new MetricTimer();
+    this.kruskal = new MetricTimer();
+    this.drawSquares = new MetricTimer();
+    this.drawWalls = new MetricTimer();
+    this.tickToFrame = new MetricTimer();
+  }
+
+  // Publishes the GLOBAL registry over JMX, if it has not been already
+  static void register() {
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(GLOBAL, new ObjectName(OBJECT_NAME));
+    }
+    catch (InstanceAlreadyExistsException e) {
+      // Already published
+    }
+    catch (JMException e) {
+      throw new IllegalStateException("Could not publish the maze metrics", e);
+    }
+  }
+
+  // Records the counters of the given finished search
+  void recordSearch(MazeSolver search) {
+    this.searches.increment();
+    this.cellsExpanded.add(search.steps);
+    this.edgesExamined.add(search.edgesExamined);
+    this.frontierHighWater.accumulateAndGet(search.frontierHighWater, Math::max);
+
+    if (search.allocatedBytes >= 0) {
+      this.allocatedBytes.add(search.allocatedBytes);
+      this.measuredSteps.add(search.steps);
+    }
+  }
+
+  // Returns the number of bytes allocated so far by the current thread, or -1
+  // if the JVM cannot tell. Work done on other threads is not counted
+  static long allocatedBytes() {
+    java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    if (threads instanceof com.sun.management.ThreadMXBean) {
+      return ((com.sun.management.ThreadMXBean) threads)
+              .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    return -1;
+  }
+
+  public long getSearches() {
+    return this.searches.sum();
+  }
+
+  public long getCellsExpanded() {
+    return this.cellsExpanded.sum();
+  }
+
+  public long getEdgesExamined() {
+    return this.edgesExamined.sum();
+  }
+
+  public long getFrontierHighWaterMark() {
+    return this.frontierHighWater.get();
+  }
+
+  public double getAllocatedBytesPerStep() {
+    long steps = this.measuredSteps.sum();
+
+    return steps == 0 ? 0 : (double) this.allocatedBytes.sum() / steps;
+  }
+
+  public long getGenerations() {
+    return this.generation.getCount();
+  }
+
+  public double getGenerationMeanMillis() {
+    return this.generation.getMeanMillis();
+  }
+
+  public double getGenerationMaxMillis() {
+    return this.generation.getMaxMillis();
+  }
+
+  public long getKruskalRuns() {
+    return this.kruskal.getCount();
+  }
+
+  public double getKruskalMeanMillis() {
+    return this.kruskal.getMeanMillis();
+  }
+
+  public double getKruskalMaxMillis() {
+    return this.kruskal.getMaxMillis();
+  }
+
+  public long getDrawSquaresCount() {
+    return this.drawSquares.getCount();
+  }
+
+  public double getDrawSquaresMeanMillis() {
+    return this.drawSquares.getMeanMillis();
+  }
+
+  public double getDrawSquaresMaxMillis() {
+    return this.drawSquares.getMaxMillis();
+  }
+
+  public long getDrawWallsCount() {
+    return this.drawWalls.getCount();
+  }
+
+  public double getDrawWallsMeanMillis() {
+    return this.drawWalls.getMeanMillis();
+  }
+
+  public double getDrawWallsMaxMillis() {
+    return this.drawWalls.getMaxMillis();
+  }
+
+  public long getFrames() {
+    return this.tickToFrame.getCount();
+  }
+
+  public double getTickToFrameMeanMillis() {
+    return this.tickToFrame.getMeanMillis();
+  }
+
+  public double getTickToFrameMaxMillis() {
+    return this.tickToFrame.getMaxMillis();
+  }
+
+  public void reset() {
+    this.searches.reset();
+    this.cellsExpanded.reset();
+    this.edgesExamined.reset();
+    this.frontierHighWater.set(0);
+    this.allocatedBytes.reset();
+    this.measuredSteps.reset();
+
+    this.generation.reset();
+    this.kruskal.reset();
+    this.drawSquares.reset();
+    this.drawWalls.reset();
+    this.tickToFrame.reset();
+  }
+
+  // Summarises everything recorded, one measurement to a line
+  String summary() {
+    return String.format("searches: %d, cells expanded: %d, edges examined: %d%n"
+                    + "frontier high-water mark: %d cells, allocated: %.1f bytes/step%n"
+                    + "generation: %s%n"
+                    + "kruskal: %s%n"
+                    + "drawSquares: %s%n"
+                    + "drawWalls: %s%n"
+                    + "tick to frame: %s%n",
+            this.getSearches(), this.getCellsExpanded(), this.getEdgesExamined(),
+            this.getFrontierHighWaterMark(), this.getAllocatedBytesPerStep(),
+            this.generation, this.kruskal, this.drawSquares, this.drawWalls, this.tickToFrame);
+  }
+}
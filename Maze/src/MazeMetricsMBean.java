@@ -0,0 +1,34 @@
+// The management interface through which JMX clients such as JConsole read
+// MazeMetrics. Times are in milliseconds
+public interface MazeMetricsMBean {
+  // Search counters, summed over every search run
+  long getSearches();
+  long getCellsExpanded();
+  long getEdgesExamined();
+  long getFrontierHighWaterMark();
+  double getAllocatedBytesPerStep();
+
+  // Maze generation
+  long getGenerations();
+  double getGenerationMeanMillis();
+  double getGenerationMaxMillis();
+  long getKruskalRuns();
+  double getKruskalMeanMillis();
+  double getKruskalMaxMillis();
+
+  // Drawing the game
+  long getDrawSquaresCount();
+  double getDrawSquaresMeanMillis();
+  double getDrawSquaresMaxMillis();
+  long getDrawWallsCount();
+  double getDrawWallsMeanMillis();
+  double getDrawWallsMaxMillis();
+
+  // The time from the start of a tick to the end of the frame that shows it
+  long getFrames();
+  double getTickToFrameMeanMillis();
+  double getTickToFrameMaxMillis();
+
+  // Forgets everything recorded so far
+  void reset();
+}
@@ -0,0 +1,42 @@
+import java.util.Arrays;
+
+// To represent one row of a maze generated a row at a time, in the same wall
+// format as GridMaze: a bit per cell for its east wall and for its south wall
+class MazeRow {
+  // The index of this row in the maze, counting down from 0 at the top
+  long y;
+
+  // The east and south walls of each cell in this row, packed 64 to a word
+  long[] eastWalls;
+  long[] southWalls;
+
+  // Constructor that makes a row of the given width with every wall up
+  MazeRow(long y, int width) {
+    this.y = y;
+    this.eastWalls = new long[(width + 63) >>> 6];
+    this.southWalls = new long[(width + 63) >>> 6];
+
+    Arrays.fill(this.eastWalls, -1L);
+    Arrays.fill(this.southWalls, -1L);
+  }
+
+  // Determines whether the cell in the given column has a wall on its east side
+  boolean hasEastWall(int x) {
+    return (this.eastWalls[x >>> 6] & (1L << x)) != 0;
+  }
+
+  // Determines whether the cell in the given column has a wall on its south side
+  boolean hasSouthWall(int x) {
+    return (this.southWalls[x >>> 6] & (1L << x)) != 0;
+  }
+
+  // Takes down the wall on the east side of the cell in the given column
+  void openEast(int x) {
+    this.eastWalls[x >>> 6] &= ~(1L << x);
+  }
+
+  // Takes down the wall on the south side of the cell in the given column
+  void openSouth(int x) {
+    this.southWalls[x >>> 6] &= ~(1L << x);
+  }
+}
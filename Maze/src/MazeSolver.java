@@ -0,0 +1,208 @@
+import java.util.BitSet;
+
+// To represent a search for a path between two cells of a maze that can be
+// run to completion headlessly, or one step at a time to animate it
+abstract class MazeSolver {
+  // The maze being searched
+  MazeLayout maze;
+
+  // The cells the search starts from and is looking for
+  int start;
+  int goal;
+
+  // The cells that have been expanded so far
+  BitSet visited;
+
+  // The cells that have been added to the frontier so far
+  BitSet seen;
+
+  // The cell each seen cell was reached from, or -1 for the start
+  int[] parent;
+
+  // The cell expanded by the last step, or the start before any step
+  int current;
+
+  // The number of steps taken so far
+  int steps;
+
+  // Whether the goal has been reached
+  boolean solved;
+
+  // The number of passages looked through so far, and the most cells the
+  // frontier has held at once
+  long edgesExamined;
+  int frontierHighWater;
+
+  // The bytes allocated by this search's steps, or -1 if not measured
+  long allocatedBytes;
+
+  // Constructor that prepares a search of the given maze between the cells
+  // indexed at the given integers
+  MazeSolver(MazeLayout maze, int start, int goal) {
+    int cells = maze.getWidth() * maze.getHeight();
+
+    // Throw an exception if the search endpoints are outside the maze
+    if (start < 0 || start >= cells || goal < 0 || goal >= cells) {
+      throw new IllegalArgumentException(
+              "Invalid search endpoints: " + start + ", " + goal);
+    }
+
+    this.maze = maze;
+    this.start = start;
+    this.goal = goal;
+
+    this.visited = new BitSet(cells);
+    this.seen = new BitSet(cells);
+    this.parent = new int[cells];
+
+    this.current = start;
+    this.allocatedBytes = -1;
+  }
+
+  // Makes a solver that searches the given maze between the cells indexed at
+  // the given integers using the given strategy
+  static MazeSolver create(SearchStrategy strategy, MazeLayout maze, int start, int goal) {
+    switch (strategy) {
+      case BREADTH_FIRST:
+        return new BreadthFirstSolver(maze, start, goal);
+      case DEPTH_FIRST:
+        return new DepthFirstSolver(maze, start, goal);
+      case BIDIRECTIONAL:
+        return new BidirectionalSolver(maze, start, goal);
+      case A_STAR:
+        return new AStarSolver(maze, start, goal);
+      case GREEDY_BEST_FIRST:
+        return new GreedySolver(maze, start, goal);
+      default:
+        throw new IllegalArgumentException("Unknown search strategy: " + strategy);
+    }
+  }
+
+  // Determines whether there are no cells left in the frontier
+  abstract boolean frontierEmpty();
+
+  // Returns the number of cells in the frontier
+  abstract int frontierSize();
+
+  // Removes and returns the next cell to expand from the frontier
+  abstract int nextCell();
+
+  // Adds the unseen neighbours of the given cell to the frontier
+  abstract void expand(int cell);
+
+  // Determines whether expanding the given cell finishes the search
+  boolean reachesGoal(int cell) {
+    return cell == this.goal;
+  }
+
+  // Determines whether this search can take another step
+  boolean hasNextStep() {
+    return !this.solved && !this.frontierEmpty();
+  }
+
+  // Expands the next cell in the frontier and returns it
+  int step() {
+    if (!this.hasNextStep()) {
+      throw new IllegalStateException("The search has no steps left");
+    }
+
+    int cell = this.nextCell();
+
+    this.visited.set(cell);
+    this.current = cell;
+    this.steps++;
+
+    if (this.reachesGoal(cell)) {
+      this.solved = true;
+    }
+    else {
+      this.expand(cell);
+      this.frontierHighWater = Math.max(this.frontierHighWater, this.frontierSize());
+    }
+
+    return cell;
+  }
+
+  // Runs this search until it reaches the goal or runs out of cells. The
+  // search is not recorded in MazeMetrics; callers whose searches should be
+  // counted pass the solver to MazeMetrics.recordSearch afterwards
+  SolveResult solve() {
+    long bytes = MazeMetrics.allocatedBytes();
+
+    while (this.hasNextStep()) {
+      this.step();
+    }
+
+    if (bytes >= 0) {
+      this.allocatedBytes = MazeMetrics.allocatedBytes() - bytes;
+    }
+
+    return new SolveResult(this.solved, this.path(),
+            this.visited.cardinality(), this.steps);
+  }
+
+  // Marks the given cell as seen from the given cell, returning false if
+  // it had already been seen
+  boolean discover(int cell, int from) {
+    if (this.seen.get(cell)) {
+      return false;
+    }
+
+    this.seen.set(cell);
+    this.parent[cell] = from;
+
+    return true;
+  }
+
+  // Returns the neighbour of the given cell that can be reached in the given
+  // GridMaze direction, or -1 if there is a wall that way
+  int neighbour(int cell, int direction) {
+    this.edgesExamined++;
+
+    if ((this.maze.passages(cell) & direction) == 0) {
+      return -1;
+    }
+
+    return this.maze.adjacent(cell, direction);
+  }
+
+  // Returns the cell the path being followed from the start ends at
+  int forwardEnd() {
+    return this.current;
+  }
+
+  // Returns the cell the path being followed from the goal ends at, or -1 if
+  // this search only runs from the start
+  int backwardEnd() {
+    return -1;
+  }
+
+  // Determines whether the given cell was reached by searching from the goal
+  boolean reachedFromGoal(int cell) {
+    return false;
+  }
+
+  // Returns the cells on the path found from the start to the goal, or to
+  // the last cell expanded if the goal has not been reached
+  int[] path() {
+    return this.pathTo(this.current);
+  }
+
+  // Returns the cells on the path from the start to the given seen cell
+  int[] pathTo(int cell) {
+    int length = 0;
+
+    for (int i = cell; i != -1; i = this.parent[i]) {
+      length++;
+    }
+
+    int[] path = new int[length];
+
+    for (int i = cell; i != -1; i = this.parent[i]) {
+      length--;
+      path[length] = i;
+    }
+
+    return path;
+  }
+}
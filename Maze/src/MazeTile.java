@@ -0,0 +1,24 @@
+// To represent one rectangular tile of a maze generated by a TiledMazeGenerator
+class MazeTile {
+  // The column and row of this tile in the grid of tiles
+  int column;
+  int row;
+
+  // The position of this tile's top left cell in the whole maze
+  long originX;
+  long originY;
+
+  // The walls of this tile's cells. The east walls of its last column and the
+  // south walls of its last row are the walls shared with the neighbouring
+  // tiles, with a door left in those that the tiles are joined through
+  GridMaze maze;
+
+  // Constructor
+  MazeTile(int column, int row, long originX, long originY, GridMaze maze) {
+    this.column = column;
+    this.row = row;
+    this.originX = originX;
+    this.originY = originY;
+    this.maze = maze;
+  }
+}
@@ -0,0 +1,175 @@
+import java.util.Arrays;
+
+// To represent a perfect maze as a tree rooted at its first cell, prepared
+// once so that the unique path between any two cells can be found without
+// searching. Each cell keeps its parent, its depth and a jump pointer to a
+// further ancestor, placed so that any ancestor, and so the lowest common
+// ancestor of two cells, is reached in O(log N) jumps. Unlike a full
+// binary lifting table this takes a single int per cell
+class MazeTree {
+  // The width and height of the maze
+  int width;
+  int height;
+
+  // The cell each cell is reached from on the way down from the root, or
+  // -1 for the root
+  int[] parent;
+
+  // The number of moves from the root to each cell
+  int[] depth;
+
+  // The ancestor each cell jumps to, or the root for the root itself
+  int[] jump;
+
+  // Constructor that prepares the tree of the given maze, which must connect
+  // every cell to every other by exactly one path
+  MazeTree(MazeLayout maze) {
+    this.width = maze.getWidth();
+    this.height = maze.getHeight();
+
+    int cells = this.width * this.height;
+
+    this.parent = new int[cells];
+    this.depth = new int[cells];
+    this.jump = new int[cells];
+
+    // Walking down from the root breadth-first, so that each cell's parent
+    // has its jump pointer before the cell does
+    int[] queue = new int[cells];
+    int head = 0;
+    int tail = 0;
+
+    Arrays.fill(this.parent, -2);
+    this.parent[0] = -1;
+    queue[tail++] = 0;
+
+    while (head < tail) {
+      int cell = queue[head++];
+      int passages = maze.passages(cell);
+
+      for (int direction : GridMaze.DIRECTIONS) {
+        if ((passages & direction) == 0) {
+          continue;
+        }
+
+        int next = maze.adjacent(cell, direction);
+
+        if (next == this.parent[cell]) {
+          continue;
+        }
+
+        // Throw an exception if the maze has a loop
+        if (this.parent[next] != -2) {
+          throw new IllegalArgumentException("The maze is not a tree: cell "
+                  + next + " can be reached by more than one path");
+        }
+
+        this.parent[next] = cell;
+        this.depth[next] = this.depth[cell] + 1;
+        this.jump[next] = this.jumpFrom(cell);
+        queue[tail++] = next;
+      }
+    }
+
+    // Throw an exception if some cells cannot be reached
+    if (tail != cells) {
+      throw new IllegalArgumentException("The maze is not connected: "
+              + (cells - tail) + " cells cannot be reached from the first");
+    }
+  }
+
+  // Returns the jump pointer of a child of the given cell. The child jumps
+  // twice as far as the given cell's own jumps when those two jumps are the
+  // same length, and otherwise only to the given cell, which spaces the
+  // jumps like the digits of a skew-binary number
+  int jumpFrom(int cell) {
+    int up = this.jump[cell];
+
+    if (cell != 0
+            && this.depth[cell] - this.depth[up] == this.depth[up] - this.depth[this.jump[up]]) {
+      return this.jump[up];
+    }
+
+    return cell;
+  }
+
+  // Returns the ancestor of the given cell at the given depth, which must be
+  // no deeper than the cell
+  int ancestor(int cell, int depth) {
+    while (this.depth[cell] > depth) {
+      if (this.depth[this.jump[cell]] >= depth) {
+        cell = this.jump[cell];
+      }
+      else {
+        cell = this.parent[cell];
+      }
+    }
+
+    return cell;
+  }
+
+  // Returns the deepest cell that is an ancestor of both given cells, which
+  // is where the path between them turns from going up to going down
+  int lowestCommonAncestor(int a, int b) {
+    this.check(a);
+    this.check(b);
+
+    a = this.ancestor(a, this.depth[b]);
+    b = this.ancestor(b, this.depth[a]);
+
+    // Cells at the same depth have jumps of the same length, so both can
+    // jump together while that keeps them apart
+    while (a != b) {
+      if (this.jump[a] != this.jump[b]) {
+        a = this.jump[a];
+        b = this.jump[b];
+      }
+      else {
+        a = this.parent[a];
+        b = this.parent[b];
+      }
+    }
+
+    return a;
+  }
+
+  // Returns the number of moves on the path between the given cells
+  int distance(int a, int b) {
+    int meet = this.lowestCommonAncestor(a, b);
+
+    return this.depth[a] + this.depth[b] - 2 * this.depth[meet];
+  }
+
+  // Returns the cells on the path from the first given cell to the second
+  int[] path(int from, int to) {
+    int meet = this.lowestCommonAncestor(from, to);
+    int up = this.depth[from] - this.depth[meet];
+    int down = this.depth[to] - this.depth[meet];
+    int[] path = new int[up + down + 1];
+
+    // Climbing from the first cell to where the path turns
+    int cell = from;
+
+    for (int i = 0; i <= up; i++) {
+      path[i] = cell;
+      cell = this.parent[cell];
+    }
+
+    // Filling in the way down backwards, climbing from the second cell
+    cell = to;
+
+    for (int i = up + down; i > up; i--) {
+      path[i] = cell;
+      cell = this.parent[cell];
+    }
+
+    return path;
+  }
+
+  // Throws an exception if the given cell is outside the maze
+  void check(int cell) {
+    if (cell < 0 || cell >= this.parent.length) {
+      throw new IllegalArgumentException("Invalid cell: " + cell);
+    }
+  }
+}
\ No newline at end of file
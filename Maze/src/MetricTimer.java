@@ -0,0 +1,62 @@
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// To represent a running record of how long some operation takes, safe to
+// update from many threads at once
+class MetricTimer {
+  // The number of times the operation has been timed
+  LongAdder count;
+
+  // The total and longest time taken, in nanoseconds
+  LongAdder totalNanos;
+  AtomicLong maxNanos;
+
+  // Constructor
+  MetricTimer() {
+    this.count = new LongAdder();
+    this.totalNanos = new LongAdder();
+    this.maxNanos = new AtomicLong();
+  }
+
+  // Records one run of the operation that took the given number of nanoseconds
+  void record(long nanos) {
+    this.count.increment();
+    this.totalNanos.add(nanos);
+    this.maxNanos.accumulateAndGet(nanos, Math::max);
+  }
+
+  // Records one run of the operation that started at the given System.nanoTime
+  void recordSince(long start) {
+    this.record(System.nanoTime() - start);
+  }
+
+  // Returns the number of runs recorded
+  long getCount() {
+    return this.count.sum();
+  }
+
+  // Returns the mean time of a run in milliseconds, or 0 if none has been recorded
+  double getMeanMillis() {
+    long runs = this.count.sum();
+
+    return runs == 0 ? 0 : this.totalNanos.sum() / 1e6 / runs;
+  }
+
+  // Returns the longest time of a run in milliseconds
+  double getMaxMillis() {
+    return this.maxNanos.get() / 1e6;
+  }
+
+  // Forgets every run recorded so far
+  void reset() {
+    this.count.reset();
+    this.totalNanos.reset();
+    this.maxNanos.set(0);
+  }
+
+  // Summarises the runs recorded
+  public String toString() {
+    return String.format("%d runs, mean %.3f ms, max %.3f ms",
+            this.getCount(), this.getMeanMillis(), this.getMaxMillis());
+  }
+}
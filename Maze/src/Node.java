@@ -20,6 +20,11 @@ class Node {
     this.outEdges.remove(edge);
   }
 
+  // Removes all of the edges from this node's list of edges
+  void clearEdges() {
+    this.outEdges.clear();
+  }
+
   // Determines whether there is an edge connecting this node
   // and the given node
   public boolean edgeTo(Node that) {
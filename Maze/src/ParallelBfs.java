@@ -0,0 +1,179 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+// Finds the distance from one cell of a maze to every other with a
+// level-synchronous breadth-first search, expanding each level's frontier in
+// parallel on a fork-join pool. Cells are claimed through a shared bitset so
+// that each is added to the next frontier exactly once, even in a maze with
+// loops. The frontiers of a perfect maze are often narrow, so levels too small
+// to be worth splitting are expanded on the calling thread
+class ParallelBfs {
+  // The smallest frontier that is expanded in parallel
+  static final int PARALLEL_FRONTIER = 4096;
+  // The number of pieces each thread's share of a frontier is split into, so
+  // that threads finishing early can take work from the others
+  static final int CHUNKS_PER_THREAD = 4;
+
+  // The number of threads to expand frontiers with
+  int parallelism;
+
+  // Constructor
+  ParallelBfs(int parallelism) {
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("Invalid parallelism: " + parallelism);
+    }
+
+    this.parallelism = parallelism;
+  }
+
+  // Returns the number of moves from the given cell to each cell of the
+  // given maze, or -1 for the cells that cannot be reached from it
+  int[] distances(MazeLayout maze, int source) {
+    ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+
+    try {
+      return this.distances(pool, maze, source);
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  // Runs the search level by level on the given pool
+  int[] distances(ForkJoinPool pool, final MazeLayout maze, int source) {
+    final int cells = maze.getWidth() * maze.getHeight();
+
+    // Throw an exception if the source is outside the maze
+    if (source < 0 || source >= cells) {
+      throw new IllegalArgumentException("Invalid source cell: " + source);
+    }
+
+    final int[] distance = new int[cells];
+    final AtomicLongArray visited = new AtomicLongArray((cells + 63) >>> 6);
+
+    Arrays.fill(distance, -1);
+    distance[source] = 0;
+    claim(visited, source);
+
+    // The cells of the current level, and room for the next one with space
+    // for every neighbour of every cell in the current level
+    int[] frontier = new int[Math.min(cells, 1024)];
+    int[] next = new int[frontier.length];
+    int size = 0;
+    int level = 0;
+
+    frontier[size++] = source;
+
+    while (size > 0) {
+      level++;
+
+      if (next.length < 4 * size) {
+        next = new int[(int) Math.min(4L * size, Integer.MAX_VALUE - 8)];
+      }
+
+      if (size < PARALLEL_FRONTIER || this.parallelism == 1) {
+        size = expand(maze, frontier, 0, size, next, 0, distance, visited, level);
+      }
+      else {
+        // Each chunk writes the cells it finds to its own part of next, four
+        // slots per cell it expands, and the parts are then packed together
+        final int[] current = frontier;
+        final int[] found = next;
+        final int from = size;
+        final int depth = level;
+        final int chunks = Math.min(size, this.parallelism * CHUNKS_PER_THREAD);
+        final int[] counts = new int[chunks];
+
+        pool.submit(() -> IntStream.range(0, chunks).parallel().forEach(c -> {
+          int lo = (int) ((long) from * c / chunks);
+          int hi = (int) ((long) from * (c + 1) / chunks);
+
+          counts[c] = expand(maze, current, lo, hi, found, 4 * lo, distance, visited, depth);
+        })).join();
+
+        size = 0;
+
+        for (int c = 0; c < chunks; c++) {
+          int lo = (int) ((long) from * c / chunks);
+
+          System.arraycopy(found, 4 * lo, found, size, counts[c]);
+          size += counts[c];
+        }
+      }
+
+      int[] swap = frontier;
+
+      frontier = next;
+      next = swap;
+    }
+
+    return distance;
+  }
+
+  // Expands the cells of the frontier from index lo up to hi, writing each
+  // neighbour it is the first to claim into out from the given index and
+  // giving it the given distance. Returns the number of cells written
+  static int expand(MazeLayout maze, int[] frontier, int lo, int hi, int[] out, int start,
+                    int[] distance, AtomicLongArray visited, int level) {
+    int width = maze.getWidth();
+    int at = start;
+
+    for (int i = lo; i < hi; i++) {
+      int cell = frontier[i];
+      int passages = maze.passages(cell);
+
+      if ((passages & GridMaze.NORTH) != 0 && claim(visited, cell - width)) {
+        distance[cell - width] = level;
+        out[at++] = cell - width;
+      }
+      if ((passages & GridMaze.EAST) != 0 && claim(visited, cell + 1)) {
+        distance[cell + 1] = level;
+        out[at++] = cell + 1;
+      }
+      if ((passages & GridMaze.SOUTH) != 0 && claim(visited, cell + width)) {
+        distance[cell + width] = level;
+        out[at++] = cell + width;
+      }
+      if ((passages & GridMaze.WEST) != 0 && claim(visited, cell - 1)) {
+        distance[cell - 1] = level;
+        out[at++] = cell - 1;
+      }
+    }
+
+    return at - start;
+  }
+
+  // Sets the bit for the given cell in the given bitset, returning false if
+  // it was already set
+  static boolean claim(AtomicLongArray visited, int cell) {
+    int index = cell >>> 6;
+    long bit = 1L << cell;
+    long word = visited.get(index);
+
+    while ((word & bit) == 0) {
+      if (visited.compareAndSet(index, word, word | bit)) {
+        return true;
+      }
+
+      word = visited.get(index);
+    }
+
+    return false;
+  }
+
+  // Returns the first of the cells furthest from the source of the given
+  // distances
+  static int farthest(int[] distance) {
+    int best = 0;
+
+    for (int i = 1; i < distance.length; i++) {
+      if (distance[i] > distance[best]) {
+        best = i;
+      }
+    }
+
+    return best;
+  }
+}
\ No newline at end of file
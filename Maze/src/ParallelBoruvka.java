@@ -0,0 +1,134 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+// Finds the minimum spanning tree of a graph with Boruvka's algorithm, finding
+// the cheapest edge out of every component in parallel on a fork-join pool.
+// Ties between equal weights are broken by edge index, so the tree found is
+// the same one Kruskal's algorithm finds from a stable sort of the edges
+class ParallelBoruvka {
+  // The number of threads to search for edges with
+  int parallelism;
+
+  // Constructor
+  ParallelBoruvka(int parallelism) {
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("Invalid parallelism: " + parallelism);
+    }
+
+    this.parallelism = parallelism;
+  }
+
+  // Returns the indices of the edges in the minimum spanning tree (or forest)
+  // of the graph with the given number of nodes, whose edge i connects
+  // from[i] and to[i] with the non-negative weight weights[i]
+  int[] spanningTree(int nodeCount, int[] from, int[] to, int[] weights) {
+    ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+
+    try {
+      return this.spanningTree(pool, nodeCount, from, to, weights);
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  // Runs the rounds of Boruvka's algorithm on the given pool
+  int[] spanningTree(ForkJoinPool pool, int nodeCount,
+                     final int[] from, final int[] to, final int[] weights) {
+    // The component each node belongs to, named by its root in the union-find
+    final int[] component = new int[nodeCount];
+    // The roots of the components at the start of the current round
+    int[] roots = new int[nodeCount];
+
+    for (int i = 0; i < nodeCount; i++) {
+      component[i] = i;
+      roots[i] = i;
+    }
+
+    // The cheapest edge out of each component, as its weight in the high
+    // half and its index in the low half so that smaller means cheaper
+    final AtomicLongArray cheapest = new AtomicLongArray(nodeCount);
+
+    UnionFind components = new UnionFind(nodeCount);
+    int[] treeEdges = new int[Math.max(nodeCount - 1, 0)];
+    int treeSize = 0;
+
+    // The new name of each component that has just been merged
+    final int[] label = new int[nodeCount];
+
+    // The edges that still join two different components
+    int[] active = IntStream.range(0, from.length).toArray();
+
+    while (active.length > 0) {
+      for (int root : roots) {
+        cheapest.set(root, Long.MAX_VALUE);
+      }
+
+      // Finding the cheapest edge out of each component
+      final int[] edges = active;
+
+      pool.submit(() -> IntStream.range(0, edges.length).parallel().forEach(i -> {
+        int edge = edges[i];
+        long key = (long) weights[edge] << 32 | edge;
+
+        lowerTo(cheapest, component[from[edge]], key);
+        lowerTo(cheapest, component[to[edge]], key);
+      })).join();
+
+      // Adding every component's cheapest edge to the tree
+      int merged = 0;
+
+      for (int root : roots) {
+        long key = cheapest.get(root);
+
+        if (key != Long.MAX_VALUE) {
+          int edge = (int) key;
+
+          if (components.union(from[edge], to[edge])) {
+            treeEdges[treeSize++] = edge;
+            merged++;
+          }
+        }
+      }
+
+      if (merged == 0) {
+        break;
+      }
+
+      // Renaming each component after its new root
+      int rootCount = 0;
+
+      for (int root : roots) {
+        label[root] = components.find(root);
+
+        if (label[root] == root) {
+          roots[rootCount++] = root;
+        }
+      }
+
+      roots = Arrays.copyOf(roots, rootCount);
+
+      pool.submit(() -> IntStream.range(0, nodeCount).parallel().forEach(v ->
+              component[v] = label[component[v]])).join();
+
+      // Dropping the edges that now lie inside a single component
+      active = pool.submit(() -> IntStream.of(edges).parallel()
+              .filter(edge -> component[from[edge]] != component[to[edge]])
+              .toArray()).join();
+    }
+
+    return Arrays.copyOf(treeEdges, treeSize);
+  }
+
+  // Lowers the value at the given index of the given array to the given key,
+  // if the key is smaller
+  static void lowerTo(AtomicLongArray array, int index, long key) {
+    long current = array.get(index);
+
+    while (key < current && !array.compareAndSet(index, current, key)) {
+      current = array.get(index);
+    }
+  }
+}
@@ -0,0 +1,114 @@
+import java.util.BitSet;
+import java.util.Random;
+
+// Generates mazes with randomized Prim's algorithm, growing the maze from one
+// cell by always adding the cheapest randomly weighted edge out of it. The
+// edges waiting to be added are kept in a binary heap of primitive keys
+class PrimGenerator implements MazeGenerator {
+  public int id() {
+    return PRIM;
+  }
+
+  public GridMaze generate(int width, int height, Random rdm) {
+    GridMaze maze = new GridMaze(width, height);
+
+    // Throw an exception if the cells cannot all be packed into the heap keys
+    if (maze.cellCount() >= 1 << 30) {
+      throw new IllegalArgumentException(
+              "Too many cells for Prim's algorithm: " + width + "x" + height);
+    }
+
+    BitSet inMaze = new BitSet(maze.cellCount());
+
+    // Each edge is keyed by its random weight in the high half and the cell
+    // it leads to times four plus its direction in the low half. Every edge
+    // is added at most once, from whichever end joins the maze first
+    long[] heap = new long[Math.max(2 * maze.cellCount(), 1)];
+    int size = 0;
+
+    inMaze.set(0);
+    size = addEdges(maze, inMaze, 0, heap, size, rdm);
+
+    while (size > 0) {
+      long key = heap[0];
+
+      size--;
+      heap[0] = heap[size];
+      siftDown(heap, size, 0);
+
+      int low = (int) key;
+      int cell = low >>> 2;
+
+      if (!inMaze.get(cell)) {
+        int from = maze.adjacent(cell, GridMaze.DIRECTIONS[low & 3]);
+
+        inMaze.set(cell);
+        maze.carve(from, cell);
+        size = addEdges(maze, inMaze, cell, heap, size, rdm);
+      }
+    }
+
+    return maze;
+  }
+
+  // Adds the edges from the given cell to its neighbours outside the maze to
+  // the given heap of the given size, returning its new size
+  static int addEdges(GridMaze maze, BitSet inMaze, int cell,
+                      long[] heap, int size, Random rdm) {
+    for (int i = 0; i < 4; i++) {
+      int neighbour = maze.adjacent(cell, GridMaze.DIRECTIONS[i]);
+
+      if (neighbour != -1 && !inMaze.get(neighbour)) {
+        // Recording the direction back from the neighbour to this cell
+        int back = (i + 2) & 3;
+
+        heap[size] = (long) rdm.nextInt(Integer.MAX_VALUE) << 32 | (neighbour << 2 | back) & 0xFFFFFFFFL;
+        siftUp(heap, size);
+        size++;
+      }
+    }
+
+    return size;
+  }
+
+  // Moves the key at the given position of the heap up to where it belongs
+  static void siftUp(long[] heap, int position) {
+    long key = heap[position];
+
+    while (position > 0) {
+      int parent = (position - 1) >>> 1;
+
+      if (heap[parent] <= key) {
+        break;
+      }
+
+      heap[position] = heap[parent];
+      position = parent;
+    }
+
+    heap[position] = key;
+  }
+
+  // Moves the key at the given position of the heap of the given size down
+  // to where it belongs
+  static void siftDown(long[] heap, int size, int position) {
+    long key = heap[position];
+
+    while (2 * position + 1 < size) {
+      int child = 2 * position + 1;
+
+      if (child + 1 < size && heap[child + 1] < heap[child]) {
+        child++;
+      }
+
+      if (key <= heap[child]) {
+        break;
+      }
+
+      heap[position] = heap[child];
+      position = child;
+    }
+
+    heap[position] = key;
+  }
+}
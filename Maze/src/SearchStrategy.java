@@ -0,0 +1,16 @@
+// The ways a MazeSolver can search a maze for a path
+enum SearchStrategy {
+  BREADTH_FIRST("BFS"),
+  DEPTH_FIRST("DFS"),
+  BIDIRECTIONAL("Bidi"),
+  A_STAR("A*"),
+  GREEDY_BEST_FIRST("Greedy");
+
+  // The short name shown for this strategy in the game panel
+  final String label;
+
+  // Constructor
+  SearchStrategy(String label) {
+    this.label = label;
+  }
+}
\ No newline at end of file
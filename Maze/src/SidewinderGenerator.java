@@ -0,0 +1,39 @@
+import java.util.Random;
+
+// Generates mazes with the sidewinder algorithm, which works along each row
+// carving runs of cells to the east and closing each run with one passage
+// north from a random cell in it. The top row is a single corridor
+class SidewinderGenerator implements MazeGenerator {
+  public int id() {
+    return SIDEWINDER;
+  }
+
+  public GridMaze generate(int width, int height, Random rdm) {
+    GridMaze maze = new GridMaze(width, height);
+
+    for (int x = 0; x < width - 1; x++) {
+      maze.carve(x, x + 1);
+    }
+
+    for (int y = 1; y < height; y++) {
+      int runStart = 0;
+
+      for (int x = 0; x < width; x++) {
+        int cell = y * width + x;
+
+        if (x == width - 1 || rdm.nextBoolean()) {
+          // Closing the run with a passage north from one of its cells
+          int chosen = y * width + runStart + rdm.nextInt(x - runStart + 1);
+
+          maze.carve(chosen, chosen - width);
+          runStart = x + 1;
+        }
+        else {
+          maze.carve(cell, cell + 1);
+        }
+      }
+    }
+
+    return maze;
+  }
+}
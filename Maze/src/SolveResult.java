@@ -0,0 +1,23 @@
+// To represent the outcome of running a MazeSolver to completion
+class SolveResult {
+  // Whether the goal was reached
+  boolean solved;
+
+  // The cells on the path from the start to the goal, or to the last cell
+  // expanded if the goal was not reached
+  int[] path;
+
+  // The number of distinct cells expanded by the search
+  int visitedCount;
+
+  // The number of steps the search took
+  int stepCount;
+
+  // Constructor
+  SolveResult(boolean solved, int[] path, int visitedCount, int stepCount) {
+    this.solved = solved;
+    this.path = path;
+    this.visitedCount = visitedCount;
+    this.stepCount = stepCount;
+  }
+}
@@ -0,0 +1,119 @@
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Solves a maze headlessly with every search strategy, recording the cells
+// each visits and the fastest of its timed runs. Comparisons run one at a
+// time on a background thread, so the game carries on while they work, and
+// one that is no longer wanted can be given up between solves
+class SolverComparison implements Runnable {
+  // The number of timed runs of each search strategy, of which the fastest is kept
+  static final int RUNS = 5;
+
+  // The thread the comparisons run on, which does not keep the program alive
+  static final ExecutorService BACKGROUND = Executors.newSingleThreadExecutor(task -> {
+    Thread thread = new Thread(task, "Solver comparison");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  // The maze the search strategies are compared on
+  MazeLayout maze;
+
+  // The number of cells each search strategy visits solving the maze and
+  // its fastest time in nanoseconds, indexed by the strategy's ordinal
+  int[] visits;
+  long[] times;
+
+  // Whether every run has finished, and whether the comparison has been given up
+  volatile boolean done;
+  volatile boolean cancelled;
+
+  // Released once the comparison has finished or been given up
+  CountDownLatch finished;
+
+  // Constructor
+  SolverComparison(MazeLayout maze) {
+    this.maze = maze;
+    this.visits = new int[SearchStrategy.values().length];
+    this.times = new long[SearchStrategy.values().length];
+    this.finished = new CountDownLatch(1);
+  }
+
+  // Starts comparing the search strategies on the given maze in the background
+  static SolverComparison start(MazeLayout maze) {
+    SolverComparison comparison = new SolverComparison(maze);
+
+    BACKGROUND.execute(comparison);
+
+    return comparison;
+  }
+
+  // Runs every search strategy once untimed, then times them in rounds that
+  // take turns between the strategies, so that no strategy pays for warming
+  // up the code alone
+  public void run() {
+    try {
+      SearchStrategy[] strategies = SearchStrategy.values();
+      int goal = this.maze.getWidth() * this.maze.getHeight() - 1;
+
+      for (SearchStrategy strategy : strategies) {
+        if (this.cancelled) {
+          return;
+        }
+
+        MazeSolver.create(strategy, this.maze, 0, goal).solve();
+        this.times[strategy.ordinal()] = Long.MAX_VALUE;
+      }
+
+      for (int run = 0; run < RUNS; run++) {
+        for (SearchStrategy strategy : strategies) {
+          if (this.cancelled) {
+            return;
+          }
+
+          long start = System.nanoTime();
+          SolveResult result = MazeSolver.create(strategy, this.maze, 0, goal).solve();
+          long time = System.nanoTime() - start;
+
+          this.times[strategy.ordinal()] = Math.min(this.times[strategy.ordinal()], time);
+          this.visits[strategy.ordinal()] = result.visitedCount;
+        }
+      }
+
+      this.done = true;
+    }
+    finally {
+      this.finished.countDown();
+    }
+  }
+
+  // Gives up the comparison after the solve it is running, if it has not finished
+  void cancel() {
+    this.cancelled = true;
+  }
+
+  // Waits until the comparison has finished or been given up
+  void await() {
+    try {
+      this.finished.await();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  // Returns a line listing the cells visited and the time taken by each
+  // search strategy to solve the maze
+  String summary() {
+    StringBuilder line = new StringBuilder("Cells visited/ms:");
+
+    for (SearchStrategy strategy : SearchStrategy.values()) {
+      line.append(String.format("  %s %d/%.2f", strategy.label,
+              this.visits[strategy.ordinal()],
+              this.times[strategy.ordinal()] / 1e6));
+    }
+
+    return line.toString();
+  }
+}
\ No newline at end of file
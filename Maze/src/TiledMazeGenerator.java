@@ -0,0 +1,141 @@
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+// Generates a maze too large to hold in memory as independent tiles. Each tile
+// is its own random spanning tree, and the tiles are stitched together by a
+// spanning tree over the grid of tiles: every pair of neighbouring tiles that
+// is joined in that tree shares exactly one door, so the whole maze is still a
+// single spanning tree. Any tile can be made on its own, in any order
+class TiledMazeGenerator {
+  // The dimensions of the whole maze in cells
+  long width;
+  long height;
+
+  // The dimensions of a full tile in cells; tiles in the last column and row
+  // are cut short by the edge of the maze
+  int tileWidth;
+  int tileHeight;
+
+  // The number of tiles across and down the maze
+  int columns;
+  int rows;
+
+  // The seed every tile is derived from
+  long seed;
+
+  // Which neighbouring tiles are joined, as a maze over the grid of tiles
+  GridMaze layout;
+
+  // The row of the door in each tile's east side and the column of the door
+  // in its south side, for the sides that have one
+  int[] eastDoors;
+  int[] southDoors;
+
+  // Constructor that plans a maze of the given dimensions cut into tiles of
+  // the given dimensions, made from the given seed
+  TiledMazeGenerator(long width, long height, int tileWidth, int tileHeight, long seed) {
+    // Throw an exception if the dimensions are invalid
+    if (width <= 0 || height <= 0 || tileWidth <= 0 || tileHeight <= 0
+            || (long) tileWidth * tileHeight > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Invalid tiled maze dimensions: "
+              + width + "x" + height + " in " + tileWidth + "x" + tileHeight + " tiles");
+    }
+
+    long columns = (width + tileWidth - 1) / tileWidth;
+    long rows = (height + tileHeight - 1) / tileHeight;
+
+    if (columns * rows > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Too many tiles: " + columns + "x" + rows);
+    }
+
+    this.width = width;
+    this.height = height;
+    this.tileWidth = tileWidth;
+    this.tileHeight = tileHeight;
+    this.columns = (int) columns;
+    this.rows = (int) rows;
+    this.seed = seed;
+
+    // Joining the tiles into a spanning tree and placing a door in each join
+    Random rdm = new Random(seed);
+
+    this.layout = GridMaze.kruskal(this.columns, this.rows, rdm);
+    this.eastDoors = new int[this.columns * this.rows];
+    this.southDoors = new int[this.columns * this.rows];
+
+    for (int i = 0; i < this.eastDoors.length; i++) {
+      this.eastDoors[i] = rdm.nextInt(this.tileHeight(i / this.columns));
+      this.southDoors[i] = rdm.nextInt(this.tileWidth(i % this.columns));
+    }
+  }
+
+  // Returns the width in cells of the tiles in the given column
+  int tileWidth(int column) {
+    return (int) Math.min(this.tileWidth, this.width - (long) column * this.tileWidth);
+  }
+
+  // Returns the height in cells of the tiles in the given row
+  int tileHeight(int row) {
+    return (int) Math.min(this.tileHeight, this.height - (long) row * this.tileHeight);
+  }
+
+  // Generates the tile in the given column and row
+  MazeTile tile(int column, int row) {
+    if (column < 0 || column >= this.columns || row < 0 || row >= this.rows) {
+      throw new IndexOutOfBoundsException("Invalid tile: " + column + ", " + row);
+    }
+
+    int index = row * this.columns + column;
+    int width = this.tileWidth(column);
+    int height = this.tileHeight(row);
+
+    GridMaze maze = GridMaze.kruskal(width, height, EdgeWeights.split(this.seed, index));
+
+    // Opening the doors into the tiles to the east and south
+    int passages = this.layout.passages(index);
+
+    if ((passages & GridMaze.EAST) != 0) {
+      maze.setEastWall(this.eastDoors[index] * width + width - 1, false);
+    }
+
+    if ((passages & GridMaze.SOUTH) != 0) {
+      maze.setSouthWall((height - 1) * width + this.southDoors[index], false);
+    }
+
+    return new MazeTile(column, row,
+            (long) column * this.tileWidth, (long) row * this.tileHeight, maze);
+  }
+
+  // Returns a stream that generates every tile in row-major order as it is
+  // consumed. The tiles are independent, so the stream may be made parallel
+  Stream<MazeTile> tiles() {
+    return IntStream.range(0, this.columns * this.rows)
+            .mapToObj(i -> this.tile(i % this.columns, i / this.columns));
+  }
+
+  // Generates every tile and copies them into a single maze, for mazes small
+  // enough to hold whole
+  GridMaze assemble() {
+    if (this.width > Integer.MAX_VALUE || this.height > Integer.MAX_VALUE) {
+      throw new IllegalStateException(
+              "Maze too large to assemble: " + this.width + "x" + this.height);
+    }
+
+    GridMaze whole = new GridMaze((int) this.width, (int) this.height);
+
+    this.tiles().forEach(tile -> {
+      GridMaze part = tile.maze;
+
+      for (int i = 0; i < part.cellCount(); i++) {
+        int cell = (int) ((tile.originY + i / part.width) * this.width
+                + tile.originX + i % part.width);
+
+        whole.setEastWall(cell, part.hasEastWall(i));
+        whole.setSouthWall(cell, part.hasSouthWall(i));
+      }
+    });
+
+    return whole;
+  }
+}
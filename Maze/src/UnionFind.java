@@ -0,0 +1,68 @@
+// To represent a disjoint-set forest over the integers [0, size), used to
+// keep track of which nodes of a graph are already connected
+class UnionFind {
+  // The parent of each element, where a root is its own parent
+  int[] parent;
+  // An upper bound on the height of the tree rooted at each element
+  byte[] rank;
+
+  // Constructor that puts each element in its own set
+  UnionFind(int size) {
+    if (size < 0) {
+      throw new IllegalArgumentException("Invalid set size: " + size);
+    }
+
+    this.parent = new int[size];
+    this.rank = new byte[size];
+
+    for (int i = 0; i < size; i++) {
+      this.parent[i] = i;
+    }
+  }
+
+  // Puts each element back in its own set
+  void reset() {
+    for (int i = 0; i < this.parent.length; i++) {
+      this.parent[i] = i;
+      this.rank[i] = 0;
+    }
+  }
+
+  // Returns the representative of the set containing the given element,
+  // halving the path to the root along the way
+  int find(int element) {
+    int[] parent = this.parent;
+
+    while (parent[element] != element) {
+      parent[element] = parent[parent[element]];
+      element = parent[element];
+    }
+
+    return element;
+  }
+
+  // Merges the sets containing the two given elements, returning false
+  // if they were already in the same set
+  boolean union(int element1, int element2) {
+    int root1 = this.find(element1);
+    int root2 = this.find(element2);
+
+    if (root1 == root2) {
+      return false;
+    }
+
+    // Hanging the shorter tree under the taller one
+    if (this.rank[root1] < this.rank[root2]) {
+      this.parent[root1] = root2;
+    }
+    else if (this.rank[root1] > this.rank[root2]) {
+      this.parent[root2] = root1;
+    }
+    else {
+      this.parent[root1] = root2;
+      this.rank[root2]++;
+    }
+
+    return true;
+  }
+}
\ No newline at end of file
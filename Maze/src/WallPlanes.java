@@ -0,0 +1,70 @@
+// To represent a maze stored as two planes of wall bits, one for the wall on
+// the east side of each cell and one for the wall on its south side, packed
+// 64 cells to a word in row-major order. The walls and passages of every
+// cell are read from the words here, so that each way of storing the planes
+// answers them the same way
+interface WallPlanes extends MazeLayout {
+  // Returns the word of the east wall plane with the given index
+  long eastWord(int word);
+
+  // Returns the word of the south wall plane with the given index
+  long southWord(int word);
+
+  // Returns the number of cells in this maze
+  default int cellCount() {
+    return this.getWidth() * this.getHeight();
+  }
+
+  // Determines whether the cell indexed at the given integer has a wall on its east side
+  default boolean hasEastWall(int cell) {
+    return (this.eastWord(cell >>> 6) & (1L << cell)) != 0;
+  }
+
+  // Determines whether the cell indexed at the given integer has a wall on its south side
+  default boolean hasSouthWall(int cell) {
+    return (this.southWord(cell >>> 6) & (1L << cell)) != 0;
+  }
+
+  // Determines whether there is a passage between the cells
+  // indexed at the two given integers
+  default boolean edgeBetween(int index1, int index2) {
+    int first = Math.min(index1, index2);
+    int second = Math.max(index1, index2);
+
+    if (first < 0 || second >= this.cellCount()) {
+      return false;
+    }
+
+    if (second == first + 1 && second % this.getWidth() != 0) {
+      return !this.hasEastWall(first);
+    }
+
+    if (second == first + this.getWidth()) {
+      return !this.hasSouthWall(first);
+    }
+
+    return false;
+  }
+
+  // Returns the mask of GridMaze directions in which the cell indexed at
+  // the given integer has a passage to its neighbour
+  default int passages(int cell) {
+    int width = this.getWidth();
+    int mask = 0;
+
+    if (cell >= width && !this.hasSouthWall(cell - width)) {
+      mask |= GridMaze.NORTH;
+    }
+    if ((cell + 1) % width != 0 && !this.hasEastWall(cell)) {
+      mask |= GridMaze.EAST;
+    }
+    if (cell < this.cellCount() - width && !this.hasSouthWall(cell)) {
+      mask |= GridMaze.SOUTH;
+    }
+    if (cell % width != 0 && !this.hasEastWall(cell - 1)) {
+      mask |= GridMaze.WEST;
+    }
+
+    return mask;
+  }
+}
@@ -0,0 +1,55 @@
+import java.util.BitSet;
+import java.util.Random;
+
+// Generates mazes with Wilson's algorithm, which joins each cell to the maze
+// by a loop-erased random walk and so picks uniformly among all perfect mazes
+class WilsonGenerator implements MazeGenerator {
+  public int id() {
+    return WILSON;
+  }
+
+  public GridMaze generate(int width, int height, Random rdm) {
+    GridMaze maze = new GridMaze(width, height);
+
+    BitSet inMaze = new BitSet(maze.cellCount());
+    // The cell the latest walk left each cell towards; revisiting a cell
+    // overwrites its exit, which erases the loop the walk made
+    int[] exit = new int[maze.cellCount()];
+
+    // The neighbours of the cell the walk is on
+    int[] choices = new int[4];
+
+    inMaze.set(rdm.nextInt(maze.cellCount()));
+
+    for (int start = 0; start < maze.cellCount(); start++) {
+      // Walking at random until the walk reaches the maze
+      int cell = start;
+
+      while (!inMaze.get(cell)) {
+        int count = 0;
+
+        for (int direction : GridMaze.DIRECTIONS) {
+          int neighbour = maze.adjacent(cell, direction);
+
+          if (neighbour != -1) {
+            choices[count++] = neighbour;
+          }
+        }
+
+        exit[cell] = choices[rdm.nextInt(count)];
+        cell = exit[cell];
+      }
+
+      // Adding the loop-erased walk to the maze
+      cell = start;
+
+      while (!inMaze.get(cell)) {
+        inMaze.set(cell);
+        maze.carve(cell, exit[cell]);
+        cell = exit[cell];
+      }
+    }
+
+    return maze;
+  }
+}